@@ -0,0 +1,52 @@
+// 플랫폼 스레드 모드와 가상 스레드 모드 비교용 k6 부하 테스트
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 loadtest/auth-load.js
+// 인증된 조회(JWT 필터 + Redis 폐기 목록)와 로그인(DB 조회 + BCrypt + Redis 저장)을 섞어 호출한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200');
+const PASSWORD = 'Password1!';
+
+export const options = {
+    scenarios: {
+        authenticated: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+            exec: 'authenticated',
+        },
+        sign: {
+            executor: 'constant-arrival-rate',
+            rate: parseInt(__ENV.SIGN_RATE || '20'),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 50,
+            exec: 'sign',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const username = `load${Date.now() % 1000000}`;
+    http.post(`${BASE_URL}/signup`, JSON.stringify({ username, password: PASSWORD, nickname: 'load' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    const res = http.post(`${BASE_URL}/sign`, JSON.stringify({ username, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    return { username, token: res.json('token') };
+}
+
+export function authenticated(data) {
+    const res = http.get(`${BASE_URL}/test`, {
+        cookies: { Authorization: encodeURIComponent(data.token) },
+        tags: { name: 'authenticated' },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function sign(data) {
+    const res = http.post(`${BASE_URL}/sign`, JSON.stringify({ username: data.username, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'sign' } });
+    check(res, { 'status is 200 or 429': (r) => r.status === 200 || r.status === 429 });
+}
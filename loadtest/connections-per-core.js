@@ -0,0 +1,61 @@
+// 서블릿/리액티브 스택의 코어당 동시 연결 수 비교용 k6 부하 테스트
+//   taskset -c 0-1 java -jar build/libs/onboarding-0.0.1-SNAPSHOT.jar --spring.profiles.active=reactive
+//   k6 run -e BASE_URL=http://localhost:8080 -e CORES=2 loadtest/connections-per-core.js
+// VU 하나가 keep-alive 연결 하나를 유지하며 THINK_MS 간격으로 인증된 조회를 보낸다.
+// VU 를 계속 늘리다가 p95 지연이 LATENCY_MS 를 넘거나 오류율이 1% 를 넘으면 중단하고,
+// 그때까지 유지한 최대 연결 수를 서버에 할당한 코어 수로 나눠 출력한다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CORES = parseInt(__ENV.CORES || '1');
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '20000');
+const THINK_MS = parseInt(__ENV.THINK_MS || '1000');
+const LATENCY_MS = parseInt(__ENV.LATENCY_MS || '200');
+const PASSWORD = 'Password1!';
+
+export const options = {
+    scenarios: {
+        connections: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [{ duration: __ENV.RAMP || '10m', target: MAX_VUS }],
+            gracefulRampDown: '0s',
+        },
+    },
+    thresholds: {
+        http_req_duration: [{ threshold: `p(95)<${LATENCY_MS}`, abortOnFail: true, delayAbortEval: '30s' }],
+        http_req_failed: [{ threshold: 'rate<0.01', abortOnFail: true, delayAbortEval: '30s' }],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const username = `conn${Date.now() % 1000000}`;
+    http.post(`${BASE_URL}/signup`, JSON.stringify({ username, password: PASSWORD, nickname: 'load' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    const res = http.post(`${BASE_URL}/sign`, JSON.stringify({ username, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    return { token: res.json('token') };
+}
+
+export default function (data) {
+    const res = http.get(`${BASE_URL}/test`, {
+        cookies: { Authorization: encodeURIComponent(data.token) },
+        tags: { name: 'authenticated' },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+    sleep(THINK_MS / 1000);
+}
+
+export function handleSummary(data) {
+    const connections = data.metrics.vus.values.max;
+    const lines = [
+        `max connections: ${connections}`,
+        `cores: ${CORES}`,
+        `connections per core: ${Math.floor(connections / CORES)}`,
+        `p95 latency: ${data.metrics.http_req_duration.values['p(95)'].toFixed(1)}ms`,
+        `requests/s: ${data.metrics.http_reqs.values.rate.toFixed(1)}`,
+    ];
+    return { stdout: lines.join('\n') + '\n' };
+}
@@ -0,0 +1,63 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Access Token 형식별 크기와 검증 비용 (tokenBytes: 쿠키/헤더로 매 요청 전송되는 JWT 바이트 수)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccessTokenFormatBenchmark {
+
+    @Param({"LEGACY", "COMPACT"})
+    private AccessTokenFormat format;
+
+    private JwtUtil jwtUtil;
+    private JwtKeyRing keyRing;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtFixtures.jwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenFormat", format);
+        keyRing = jwtUtil.getKeyRing();
+        token = jwtUtil.substringToken(jwtUtil.createAccessToken(1234567890123456789L, "user123", "홍길동", UserRole.ROLE_USER));
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TokenBytes {
+
+        public long tokenBytes;
+    }
+
+    // JwtSecurityFilter 의 캐시 미스 경로
+    @Benchmark
+    public VerifiedToken fastPath(TokenBytes bytes) {
+        bytes.tokenBytes += token.getBytes(StandardCharsets.US_ASCII).length;
+        return keyRing.verify(token, System.currentTimeMillis());
+    }
+
+    // fast path 를 거치지 않는 경우 (jjwt 파싱 + VerifiedToken 변환)
+    @Benchmark
+    public VerifiedToken jjwt() {
+        return VerifiedToken.from(jwtUtil.extractClaims(token));
+    }
+
+    @Benchmark
+    public String create() {
+        return jwtUtil.createAccessToken(1234567890123456789L, "user123", "홍길동", UserRole.ROLE_USER);
+    }
+}
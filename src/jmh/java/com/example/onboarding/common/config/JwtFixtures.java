@@ -0,0 +1,31 @@
+package com.example.onboarding.common.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+// 벤치마크용 JwtUtil 생성 (스프링 컨텍스트 없이)
+final class JwtFixtures {
+
+    static final String SECRET_KEY = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+
+    private JwtFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    // 아무도 폐기되지 않은 상태: Bloom filter 만으로 판단하므로 Redis 연결이 필요 없다
+    static TokenRevocationList emptyRevocationList() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory();
+        return new TokenRevocationList(new StringRedisTemplate(connectionFactory), connectionFactory,
+                new SimpleMeterRegistry(), 1_000, 0.01, Duration.ofMinutes(10));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠키 추출부터 SecurityContext 설정까지 필터 1회 통과 비용.
+ * cached=false 는 크기 1 캐시에 두 토큰을 번갈아 넣어 매번 서명 검증을 거치게 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSecurityFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private JwtSecurityFilter filter;
+    private MockHttpServletRequest[] requests;
+    private MockHttpServletResponse response;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtFixtures.jwtUtil();
+        filter = new JwtSecurityFilter(jwtUtil, new JwtAuthenticationCache(cached ? 10_000 : 1),
+                JwtFixtures.emptyRevocationList(), new SimpleMeterRegistry());
+        requests = new MockHttpServletRequest[]{
+                request(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER)),
+                request(jwtUtil.createAccessToken(2L, "user456", "임꺽정", UserRole.ROLE_USER))
+        };
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = requests[next++ & 1];
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setCookies(new Cookie(JwtUtil.AUTHORIZATION_HEADER,
+                URLEncoder.encode(token, StandardCharsets.UTF_8).replace("+", "%20")));
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 서명 알고리즘별 발급(sign)과 검증(fast path) 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", "ES256", "EDDSA"})
+    private JwtAlgorithm algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", JwtFixtures.SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "signingAlgorithm", algorithm);
+        if (!algorithm.isSymmetric()) {
+            KeyPair keyPair = JwtKeyGenerator.generate(algorithm);
+            ReflectionTestUtils.setField(jwtUtil, "signingKid", "bench");
+            ReflectionTestUtils.setField(jwtUtil, "signingPrivateKey",
+                    Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            ReflectionTestUtils.setField(jwtUtil, "signingPublicKey",
+                    Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        }
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER));
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtUtil.verifyToken(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtFixtures.jwtUtil();
+        bearerToken = jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+        token = jwtUtil.substringToken(bearerToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtUtil.createRefreshToken(1L, "session-1");
+    }
+
+    @Benchmark
+    public Object extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public String substringToken() {
+        return jwtUtil.substringToken(bearerToken);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 응답의 쿠키 쓰기 비용과 Set-Cookie 헤더 크기 (headerBytes: 로그인 한 번당 "Set-Cookie: {값}\r\n" 바이트 수)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenCookieBenchmark {
+
+    private TokenCookieWriter tokenCookieWriter;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtFixtures.jwtUtil();
+        tokenCookieWriter = new TokenCookieWriter(Duration.ofDays(1), "", true, "Strict");
+        accessToken = jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+        refreshToken = jwtUtil.createRefreshToken(1L, "session-1");
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeaderBytes {
+
+        public long headerBytes;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            response = new MockHttpServletResponse();
+        }
+
+        void count() {
+            for (String value : response.getHeaders(HttpHeaders.SET_COOKIE)) {
+                headerBytes += HttpHeaders.SET_COOKIE.length() + 2 + value.getBytes(StandardCharsets.UTF_8).length + 2;
+            }
+        }
+    }
+
+    // 이전 방식: URL 인코딩 + 정규식 치환, 직접 만든 헤더와 addCookie 를 함께 사용 (Refresh Token 쿠키는 두 번)
+    @Benchmark
+    public MockHttpServletResponse legacy(HeaderBytes bytes) {
+        legacyCookie(bytes.response, JwtUtil.AUTHORIZATION_HEADER, accessToken, 1);
+        legacyCookie(bytes.response, JwtUtil.REFRESH_TOKEN_HEADER, refreshToken, 2);
+        bytes.count();
+        return bytes.response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse tokenCookieWriter(HeaderBytes bytes) {
+        tokenCookieWriter.write(bytes.response, accessToken, refreshToken);
+        bytes.count();
+        return bytes.response;
+    }
+
+    private static void legacyCookie(MockHttpServletResponse response, String name, String token, int addCookieCount) {
+        String value = URLEncoder.encode(token, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        Cookie cookie = new Cookie(name, value);
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(24 * 60 * 60);
+        cookie.setPath("/");
+        cookie.setSecure(true);
+        cookie.setDomain("localhost");
+        response.addHeader("Set-Cookie", cookie.getName() + "=" + cookie.getValue() +
+                "; HttpOnly; Max-Age=" + cookie.getMaxAge() + "; Path=" + cookie.getPath() +
+                "; Secure; SameSite=Strict");
+        for (int i = 0; i < addCookieCount; i++) {
+            response.addCookie(cookie);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 브라우저 요청은 보통 20개 내외의 쿠키(분석, 광고, 세션 등)를 함께 보낸다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenExtractionBenchmark {
+
+    @Param({"1", "20"})
+    private int cookieCount;
+
+    private JwtUtil jwtUtil;
+    private MockHttpServletRequest legacyRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest headerRequest;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtFixtures.jwtUtil();
+        String token = jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+
+        // 인증 쿠키는 마지막에 두어 최악의 선형 탐색을 측정
+        Cookie[] cookies = new Cookie[cookieCount];
+        for (int i = 0; i < cookieCount - 1; i++) {
+            cookies[i] = new Cookie("_ga_cookie" + i, "GA1.1." + (1_700_000_000L + i) + "." + (1_000_000 + i));
+        }
+        cookies[cookieCount - 1] = new Cookie(JwtUtil.AUTHORIZATION_HEADER,
+                URLEncoder.encode(token, StandardCharsets.UTF_8).replace("+", "%20"));
+
+        legacyRequest = new ParsingRequest();
+        legacyRequest.setCookies(cookies);
+        cookieRequest = new MockHttpServletRequest();
+        cookieRequest.setCookies(cookies);
+        headerRequest = new MockHttpServletRequest();
+        headerRequest.setCookies(cookies);
+        headerRequest.addHeader(JwtUtil.AUTHORIZATION_HEADER, token);
+    }
+
+    // 이전 방식: 컨테이너 쿠키 파싱 + 선형 탐색 + URL 디코딩 + substring
+    @Benchmark
+    public String legacyCookie() {
+        return jwtUtil.substringToken(jwtUtil.getTokenFromRequest(legacyRequest));
+    }
+
+    // Authorization 헤더가 없을 때: Cookie 헤더를 직접 훑어 토큰 부분만 잘라냄
+    @Benchmark
+    public String resolveFromCookieHeader() {
+        return jwtUtil.resolveToken(cookieRequest);
+    }
+
+    // Authorization: Bearer 헤더가 있을 때 (쿠키는 보지 않음)
+    @Benchmark
+    public String resolveFromAuthorizationHeader() {
+        return jwtUtil.resolveToken(headerRequest);
+    }
+
+    // Tomcat 은 getCookies() 를 처음 호출할 때 Cookie 헤더 전체를 파싱해 Cookie 객체를 만든다.
+    // 요청마다 한 번 일어나는 이 비용을 이전 방식에 포함시키기 위해 호출할 때마다 파싱한다
+    private static final class ParsingRequest extends MockHttpServletRequest {
+
+        @Override
+        public Cookie[] getCookies() {
+            String[] pairs = getHeader("Cookie").split("; ");
+            Cookie[] cookies = new Cookie[pairs.length];
+            for (int i = 0; i < pairs.length; i++) {
+                int separator = pairs[i].indexOf('=');
+                cookies[i] = new Cookie(pairs[i].substring(0, separator), pairs[i].substring(separator + 1));
+            }
+            return cookies;
+        }
+    }
+}
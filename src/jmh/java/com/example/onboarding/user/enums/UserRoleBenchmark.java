@@ -0,0 +1,25 @@
+package com.example.onboarding.user.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserRoleBenchmark {
+
+    @Param({"ROLE_USER", "ROLE_ADMIN"})
+    private String role;
+
+    @Benchmark
+    public UserRole of() {
+        return UserRole.of(role);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.onboarding.user.repository;
+
+import com.example.onboarding.common.id.SnowflakeIdGenerator;
+import com.example.onboarding.user.entity.User;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 사용자 조회: 읽기/쓰기 트랜잭션에서 User 엔티티 조회(변경 전) vs 읽기 전용 세션에서 UserCredentials projection(변경 후).
+ * -prof gc 의 gc.alloc.rate.norm 이 조회 1회당 할당량이고, managedEntities 는 조회 후 영속성 컨텍스트에 남은 엔티티 수다.
+ * 로컬 MySQL 필요 (-Dmysql.url, -Dmysql.user, -Dmysql.password 로 변경 가능). user 테이블과 idx_user_credentials 를 새로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserCredentialsQueryBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final String URL = System.getProperty("mysql.url", "jdbc:mysql://localhost:3306/onboarding_bench");
+    private static final String USER = System.getProperty("mysql.user", "root");
+    private static final String PASSWORD = System.getProperty("mysql.password", "");
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() throws SQLException {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, USER)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, PASSWORD)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // 애플리케이션과 같은 컬럼 이름 (user_role 등)
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                        "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy")
+                // Auditing/캐시 무효화 리스너는 스프링 빈이라 여기서는 끈다
+                .setProperty(AvailableSettings.JPA_CALLBACKS_ENABLED, "false")
+                .setProperty(SnowflakeIdGenerator.NODE_ID_SETTING, "1")
+                .buildSessionFactory();
+
+        try (Connection connection = DriverManager.getConnection(URL + "?rewriteBatchedStatements=true", USER, PASSWORD);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO user (id, username, password, nickname, user_role) VALUES (?, ?, ?, ?, 'ROLE_USER')")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < USERS; i++) {
+                insert.setLong(1, i + 1);
+                insert.setString(2, "user" + i);
+                insert.setString(3, "$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0");
+                insert.setString(4, "nick" + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE user");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PersistenceContext {
+
+        public long managedEntities;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            managedEntities = 0;
+        }
+    }
+
+    // 변경 전: @Transactional sign 안의 findByUsername. 커밋 시 flush 와 변경 감지가 일어난다
+    @Benchmark
+    public String entityInReadWriteTransaction(PersistenceContext context) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            User user = session.createSelectionQuery("from User u where u.username = :username", User.class)
+                    .setParameter("username", randomUsername())
+                    .getSingleResult();
+            context.managedEntities += session.getStatistics().getEntityCount();
+            session.getTransaction().commit();
+            return user.getPassword();
+        }
+    }
+
+    // 변경 후: 읽기 전용 트랜잭션(FlushMode.MANUAL)의 findCredentialsByUsername
+    @Benchmark
+    public String projectionInReadOnlyTransaction(PersistenceContext context) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            session.beginTransaction();
+            UserCredentials credentials = session.createSelectionQuery(
+                            "select new com.example.onboarding.user.repository.UserCredentials(" +
+                                    "u.id, u.username, u.password, u.nickname, u.userRole) " +
+                                    "from User u where u.username = :username", UserCredentials.class)
+                    .setParameter("username", randomUsername())
+                    .getSingleResult();
+            context.managedEntities += session.getStatistics().getEntityCount();
+            session.getTransaction().commit();
+            return credentials.password();
+        }
+    }
+
+    private static String randomUsername() {
+        return "user" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.onboarding.user.repository;
+
+import com.example.onboarding.common.id.Snowflake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 대량 INSERT 처리량: IDENTITY(행마다 INSERT + 생성 키 조회) vs Snowflake ID + JDBC 배치.
+ * Hibernate 가 두 방식에서 내보내는 JDBC 호출을 그대로 재현한다.
+ * 로컬 MySQL 필요 (-Dmysql.url, -Dmysql.user, -Dmysql.password 로 변경 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50; // hibernate.jdbc.batch_size
+    private static final String URL = System.getProperty("mysql.url", "jdbc:mysql://localhost:3306/onboarding_bench");
+    private static final String USER = System.getProperty("mysql.user", "root");
+    private static final String PASSWORD = System.getProperty("mysql.password", "");
+
+    private final Snowflake snowflake = Snowflake.forNode(1);
+    private Connection identityConnection;
+    private Connection batchConnection;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        identityConnection = DriverManager.getConnection(URL, USER, PASSWORD);
+        batchConnection = DriverManager.getConnection(URL + "?rewriteBatchedStatements=true", USER, PASSWORD);
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute(createTable("bench_user_identity", "id BIGINT AUTO_INCREMENT PRIMARY KEY"));
+            statement.execute(createTable("bench_user_snowflake", "id BIGINT PRIMARY KEY"));
+        }
+        identityConnection.setAutoCommit(false);
+        batchConnection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_user_identity");
+            statement.execute("TRUNCATE TABLE bench_user_snowflake");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("DROP TABLE bench_user_identity");
+            statement.execute("DROP TABLE bench_user_snowflake");
+        }
+        identityConnection.close();
+        batchConnection.close();
+    }
+
+    // 변경 전: GenerationType.IDENTITY
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityInserts() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = identityConnection.prepareStatement(
+                "INSERT INTO bench_user_identity (username, password, nickname, user_role, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        identityConnection.commit();
+        return lastId;
+    }
+
+    // 변경 후: @SnowflakeId + batch_size=50 + rewriteBatchedStatements
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long snowflakeBatchInserts() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = batchConnection.prepareStatement(
+                "INSERT INTO bench_user_snowflake (id, username, password, nickname, user_role, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                lastId = snowflake.nextId();
+                insert.setLong(1, lastId);
+                bind(insert, 2);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        batchConnection.commit();
+        return lastId;
+    }
+
+    private void bind(PreparedStatement insert, int from) throws SQLException {
+        long n = sequence++;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        insert.setString(from, "user" + n);
+        insert.setString(from + 1, "$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0");
+        insert.setString(from + 2, "nickname" + n);
+        insert.setString(from + 3, "ROLE_USER");
+        insert.setTimestamp(from + 4, now);
+        insert.setTimestamp(from + 5, now);
+    }
+
+    private static String createTable(String name, String idColumn) {
+        return "CREATE TABLE IF NOT EXISTS " + name + " (" + idColumn + ", " +
+                "username VARCHAR(255) UNIQUE, password VARCHAR(255), nickname VARCHAR(255), " +
+                "user_role VARCHAR(255), created_at DATETIME(6), modified_at DATETIME(6))";
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.onboarding.auth.config;
+
+import com.example.onboarding.auth.repository.InMemoryTokenStore;
+import com.example.onboarding.auth.repository.RedisTokenStore;
+import com.example.onboarding.auth.repository.TimedTokenStore;
+import com.example.onboarding.auth.repository.TokenStore;
+import com.example.onboarding.auth.repository.WriteBehindTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+public class TokenStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "token.store.type", havingValue = "redis", matchIfMissing = true)
+    public TokenStore redisTokenStore(
+            StringRedisTemplate redisTemplate,
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${token.store.degraded-mode.enabled:false}") boolean degradedModeEnabled,
+            @Value("${token.store.degraded-mode.capacity:10000}") int capacity,
+            @Value("${token.store.degraded-mode.retry-interval:1s}") Duration retryInterval,
+            @Value("${token.session.max-per-user:" + TokenStore.DEFAULT_MAX_SESSIONS + "}") int maxSessions
+    ) {
+        TokenStore tokenStore = new TimedTokenStore(new RedisTokenStore(redisTemplate, reactiveRedisTemplate, maxSessions),
+                "redis", meterRegistry);
+        if (degradedModeEnabled) {
+            tokenStore = new WriteBehindTokenStore(tokenStore, capacity, retryInterval, meterRegistry);
+        }
+        return tokenStore;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "token.store.type", havingValue = "memory")
+    public TokenStore inMemoryTokenStore(
+            @Value("${token.session.max-per-user:" + TokenStore.DEFAULT_MAX_SESSIONS + "}") int maxSessions
+    ) {
+        return new InMemoryTokenStore(maxSessions);
+    }
+}
@@ -2,23 +2,50 @@ package com.example.onboarding.auth.controller;
 
 import com.example.onboarding.auth.dto.request.SignRequest;
 import com.example.onboarding.auth.dto.request.SignupRequest;
+import com.example.onboarding.auth.dto.response.SessionResponse;
 import com.example.onboarding.auth.dto.response.SignResponse;
 import com.example.onboarding.auth.dto.response.SignupResponse;
 import com.example.onboarding.auth.service.AuthService;
+import com.example.onboarding.auth.service.LoginThrottle;
+import com.example.onboarding.common.audit.AuthAuditLog;
+import com.example.onboarding.common.audit.AuthEvent;
+import com.example.onboarding.common.config.ClientIpResolver;
+import com.example.onboarding.common.config.JwtUtil;
+import com.example.onboarding.common.config.TokenCookieWriter;
+import com.example.onboarding.common.dto.AuthUser;
+import com.example.onboarding.common.exception.LoginFailedException;
+import com.example.onboarding.common.exception.LoginThrottledException;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
+    private final JwtUtil jwtUtil;
+    private final TokenCookieWriter tokenCookieWriter;
+    private final AuthAuditLog authAuditLog;
 
     @Operation(summary = "회원가입 API") // api 문서화
     @PostMapping("/signup")
@@ -28,7 +55,67 @@ public class AuthController {
 
     @Operation(summary = "로그인 API") // api 문서화
     @PostMapping("/sign")
-    public ResponseEntity<SignResponse> sign(@Valid @RequestBody SignRequest signRequest) {
-        return ResponseEntity.ok(authService.sign(signRequest));
+    public ResponseEntity<SignResponse> sign(
+            @Valid @RequestBody SignRequest signRequest,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        // 트랜잭션(DB 커넥션)을 시작하기 전에 거절. 거절도 감사 로그에 남긴다
+        long startedAt = System.nanoTime();
+        try {
+            loginThrottle.acquire(signRequest.getUsername(), clientIpResolver.resolve(request));
+        } catch (LoginThrottledException e) {
+            authAuditLog.throttled(AuthEvent.Action.SIGN, signRequest.getUsername(),
+                    "Retry after " + e.getRetryAfterSeconds() + "s", startedAt);
+            throw e;
+        }
+        try {
+            return ResponseEntity.ok(withCookies(authService.sign(signRequest), response));
+        } catch (LoginFailedException e) {
+            // username 한도는 실패한 시도만 소모한다
+            loginThrottle.recordFailure(signRequest.getUsername());
+            throw e;
+        }
+    }
+
+    @Operation(summary = "토큰 재발급 API (Refresh Token 교체)") // api 문서화
+    @PostMapping("/token/refresh")
+    public ResponseEntity<SignResponse> refresh(
+            @CookieValue(name = JwtUtil.REFRESH_TOKEN_HEADER, required = false) String refreshTokenCookie,
+            @RequestHeader(name = JwtUtil.REFRESH_TOKEN_HEADER, required = false) String refreshTokenHeader,
+            HttpServletResponse response
+    ) {
+        // 쿠키에는 "Bearer " 없이 JWT 만 저장되므로 헤더와 같은 형태로 맞춘다
+        String refreshToken = refreshTokenCookie != null ? jwtUtil.bearerFromCookieValue(refreshTokenCookie) : refreshTokenHeader;
+        return ResponseEntity.ok(withCookies(authService.refresh(refreshToken), response));
+    }
+
+    @Operation(summary = "로그아웃 API (발급된 모든 토큰 폐기)") // api 문서화
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthUser authUser) {
+        authService.logout(authUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "로그인 세션(기기) 목록 API") // api 문서화
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponse>> sessions(@AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(authService.sessions(authUser));
+    }
+
+    @Operation(summary = "로그인 세션(기기) 하나 로그아웃 API") // api 문서화
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable String sessionId
+    ) {
+        authService.revokeSession(authUser, sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 토큰을 쿠키로 내려주고, 본문에는 Access Token 만 담는다
+    private SignResponse withCookies(AuthService.SignResult result, HttpServletResponse response) {
+        tokenCookieWriter.write(response, result.accessToken(), result.refreshToken());
+        return new SignResponse(result.accessToken());
     }
 }
@@ -0,0 +1,36 @@
+package com.example.onboarding.auth.controller;
+
+import com.example.onboarding.common.config.JwtKeyRing;
+import com.example.onboarding.common.config.JwtUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+// servlet, reactive 스택 공통. 키 목록은 시작 시 만든 문자열을 그대로 내려주고, ETag 로 변경 여부만 확인하게 한다
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtUtil jwtUtil;
+
+    @Value("${jwt.jwks.max-age:5m}")
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    @Operation(summary = "JWT 검증용 공개 키 목록 (JWKS)") // api 문서화
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> jwks() {
+        JwtKeyRing keyRing = jwtUtil.getKeyRing();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .eTag(keyRing.getJwksEtag())
+                .body(keyRing.getJwks());
+    }
+}
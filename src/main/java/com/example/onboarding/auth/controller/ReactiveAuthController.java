@@ -0,0 +1,65 @@
+package com.example.onboarding.auth.controller;
+
+import com.example.onboarding.auth.dto.request.SignRequest;
+import com.example.onboarding.auth.dto.request.SignupRequest;
+import com.example.onboarding.auth.dto.response.SignResponse;
+import com.example.onboarding.auth.dto.response.SignupResponse;
+import com.example.onboarding.auth.service.ReactiveAuthService;
+import com.example.onboarding.auth.service.ReactiveLoginThrottle;
+import com.example.onboarding.common.audit.AuthAuditLog;
+import com.example.onboarding.common.audit.AuthEvent;
+import com.example.onboarding.common.config.ClientIpResolver;
+import com.example.onboarding.common.config.TokenCookieWriter;
+import com.example.onboarding.common.exception.LoginFailedException;
+import com.example.onboarding.common.exception.LoginThrottledException;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+    private final TokenCookieWriter tokenCookieWriter;
+    private final ReactiveLoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
+    private final AuthAuditLog authAuditLog;
+
+    @Operation(summary = "회원가입 API") // api 문서화
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<SignupResponse>> signup(@Valid @RequestBody SignupRequest signupRequest) {
+        return authService.signup(signupRequest)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @Operation(summary = "로그인 API") // api 문서화
+    @PostMapping("/sign")
+    public Mono<ResponseEntity<SignResponse>> sign(@Valid @RequestBody SignRequest signRequest, ServerHttpRequest request) {
+        String username = signRequest.getUsername();
+        long startedAt = System.nanoTime();
+        // DB 조회와 BCrypt 전에 거절. 거절도 감사 로그에 남긴다
+        return loginThrottle.acquire(username, clientIpResolver.resolve(request))
+                .doOnError(LoginThrottledException.class, e -> authAuditLog.throttled(AuthEvent.Action.SIGN, username,
+                        "Retry after " + e.getRetryAfterSeconds() + "s", startedAt))
+                .then(Mono.defer(() -> authService.sign(signRequest)))
+                // username 한도는 실패한 시도만 소모한다
+                .onErrorResume(LoginFailedException.class,
+                        e -> loginThrottle.recordFailure(username).then(Mono.error(e)))
+                .map(result -> ResponseEntity.ok()
+                        .header(HttpHeaders.SET_COOKIE,
+                                tokenCookieWriter.accessTokenCookie(result.accessToken()),
+                                tokenCookieWriter.refreshTokenCookie(result.refreshToken()))
+                        .body(new SignResponse(result.accessToken())));
+    }
+}
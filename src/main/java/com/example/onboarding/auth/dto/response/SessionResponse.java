@@ -0,0 +1,29 @@
+package com.example.onboarding.auth.dto.response;
+
+import com.example.onboarding.auth.repository.TokenSession;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+// 토큰 값은 내려주지 않는다
+@Getter
+@RequiredArgsConstructor
+public class SessionResponse {
+
+    @Schema(description = "세션 ID", example = "3f1c2a9e-8b7d-4c6e-9a51-2d0f4b8e7c13")
+    private final String sessionId;
+
+    @Schema(description = "로그인 시각", example = "2026-10-18T09:00:00Z")
+    private final Instant createdAt;
+
+    @Schema(description = "만료 시각 (토큰 재발급 시 연장)", example = "2026-10-19T09:00:00Z")
+    private final Instant expiresAt;
+
+    public static SessionResponse from(TokenSession session) {
+        return new SessionResponse(session.sessionId(),
+                Instant.ofEpochMilli(session.createdAt()),
+                Instant.ofEpochMilli(session.expiresAt()));
+    }
+}
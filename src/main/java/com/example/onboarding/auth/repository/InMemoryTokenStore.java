@@ -0,0 +1,106 @@
+package com.example.onboarding.auth.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 및 로컬 실행용 저장소. 사용자별 세션 묶음을 통째로 교체(compute)하여 원자성을 보장하고, 만료는 조회 시점에 확인한다.
+ */
+public class InMemoryTokenStore implements TokenStore {
+
+    private final Map<String, Sessions> users = new ConcurrentHashMap<>();
+    private final int maxSessions;
+
+    public InMemoryTokenStore() {
+        this(DEFAULT_MAX_SESSIONS);
+    }
+
+    public InMemoryTokenStore(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    public void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+        long now = System.currentTimeMillis();
+        TokenSession session = new TokenSession(sessionId, now, now + REFRESH_TOKEN_TTL.toMillis(), refreshToken, accessToken);
+        users.compute(claims.userId().toString(), (userId, current) -> {
+            Map<String, TokenSession> sessions = current != null ? current.live(now) : new LinkedHashMap<>();
+            sessions.remove(sessionId);
+            // 생성 순으로 들어 있으므로 앞에서부터 제거
+            while (sessions.size() >= maxSessions) {
+                sessions.remove(sessions.keySet().iterator().next());
+            }
+            sessions.put(sessionId, session);
+            return new Sessions(claims, sessions);
+        });
+    }
+
+    @Override
+    public void saveAccessToken(String userId, String sessionId, String accessToken) {
+        users.computeIfPresent(userId, (id, current) -> {
+            TokenSession session = current.sessions().get(sessionId);
+            return session != null ? current.with(session.withAccessToken(accessToken)) : current;
+        });
+    }
+
+    @Override
+    public Optional<TokenClaims> rotateRefreshToken(String userId, String sessionId, String presentedRefreshToken,
+                                                    String newRefreshToken) {
+        long now = System.currentTimeMillis();
+        TokenClaims[] rotated = new TokenClaims[1];
+        users.computeIfPresent(userId, (id, current) -> {
+            TokenSession session = current.sessions().get(sessionId);
+            if (session == null || session.isExpired(now) || !session.refreshToken().equals(presentedRefreshToken)) {
+                return current;
+            }
+            rotated[0] = current.claims();
+            return current.with(session.withRefreshToken(newRefreshToken, now + REFRESH_TOKEN_TTL.toMillis()));
+        });
+        return Optional.ofNullable(rotated[0]);
+    }
+
+    @Override
+    public List<TokenSession> findSessions(String userId) {
+        Sessions current = users.get(userId);
+        return current != null ? new ArrayList<>(current.live(System.currentTimeMillis()).values()) : List.of();
+    }
+
+    @Override
+    public void deleteSession(String userId, String sessionId) {
+        users.computeIfPresent(userId, (id, current) -> {
+            Map<String, TokenSession> sessions = new LinkedHashMap<>(current.sessions());
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : new Sessions(current.claims(), sessions);
+        });
+    }
+
+    @Override
+    public void deleteTokens(String userId) {
+        users.remove(userId);
+    }
+
+    // 값은 교체만 하고 수정하지 않는다
+    private record Sessions(TokenClaims claims, Map<String, TokenSession> sessions) {
+
+        // 만료되지 않은 세션의 생성 순 복사본
+        Map<String, TokenSession> live(long now) {
+            Map<String, TokenSession> live = new LinkedHashMap<>();
+            sessions.values().stream()
+                    .filter(session -> !session.isExpired(now))
+                    .sorted(Comparator.comparingLong(TokenSession::createdAt))
+                    .forEach(session -> live.put(session.sessionId(), session));
+            return live;
+        }
+
+        Sessions with(TokenSession session) {
+            Map<String, TokenSession> sessions = new LinkedHashMap<>(this.sessions);
+            sessions.put(session.sessionId(), session);
+            return new Sessions(claims, sessions);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.onboarding.auth.repository;
+
+import com.example.onboarding.common.exception.TokenStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 리액티브 스택의 토큰 저장소. {@link RedisTokenStore} 와 같은 키 구조와 저장 스크립트를 사용하므로 두 스택이 같은 Redis 를 공유할 수 있다.
+ * 저장은 Lua 스크립트 한 번으로 실행해 로그인당 한 번의 왕복으로 끝난다.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveRedisTokenStore {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final int maxSessions;
+
+    public ReactiveRedisTokenStore(
+            ReactiveStringRedisTemplate redisTemplate,
+            @Value("${token.session.max-per-user:" + TokenStore.DEFAULT_MAX_SESSIONS + "}") int maxSessions
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessions = maxSessions;
+    }
+
+    public Mono<Void> saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+        String userId = claims.userId().toString();
+        return redisTemplate.execute(RedisTokenStore.SAVE_SCRIPT,
+                        List.of(RedisTokenStore.sessionsKey(userId)),
+                        RedisTokenStore.saveArguments(claims, sessionId, accessToken, refreshToken, maxSessions))
+                .then()
+                .onErrorMap(e -> {
+                    log.error("토큰 저장 실패: userId={}", userId, e);
+                    return new TokenStorageException("토큰 저장에 실패했습니다.");
+                });
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.onboarding.auth.repository;
+
+import com.example.onboarding.common.exception.TokenStorageException;
+import com.example.onboarding.user.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자의 모든 세션을 해시 키 하나에 저장한다. 세션 목록은 HGETALL, 전체 폐기는 DEL 한 번이다.
+ * SESSIONS_{userId} = { username, nickname, userRole, s:{sessionId} = "createdAt|expiresAt|refreshToken|accessToken", ... }
+ * 키의 TTL 은 가장 최근에 저장/교체한 세션의 만료 시각이고, 만료된 세션 필드는 저장/교체 스크립트가 정리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisTokenStore implements TokenStore {
+
+    public static final String SESSIONS_PREFIX = "SESSIONS_";
+    // 세션 해시 이전의 사용자당 단일 토큰 키. 전체 폐기 시 함께 삭제한다
+    public static final String ACCESS_TOKEN_PREFIX = "ACCESS_TOKEN_";
+    public static final String REFRESH_TOKEN_PREFIX = "REFRESH_TOKEN_";
+
+    private static final String USERNAME_FIELD = "username";
+    private static final String NICKNAME_FIELD = "nickname";
+    private static final String USER_ROLE_FIELD = "userRole";
+
+    // KEYS[1] = 세션 해시
+    // ARGV = [세션 필드, 세션 값, 현재 시각(ms), 최대 세션 수, TTL(ms), username, nickname, userRole]
+    // 만료된 세션을 지우고, 새 세션을 더하면 최대치를 넘는 만큼 생성 시각이 오래된 세션부터 제거. 제거한 세션 수 반환
+    static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[3])
+            local limit = tonumber(ARGV[4])
+            local sessions = {}
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+              local name = fields[i]
+              if string.sub(name, 1, 2) == 's:' and name ~= ARGV[1] then
+                local createdAt, expiresAt = string.match(fields[i + 1], '^(%d+)|(%d+)|')
+                if not expiresAt or tonumber(expiresAt) <= now then
+                  redis.call('HDEL', KEYS[1], name)
+                else
+                  sessions[#sessions + 1] = {tonumber(createdAt), name}
+                end
+              end
+            end
+            local evicted = 0
+            if #sessions >= limit then
+              table.sort(sessions, function(a, b) return a[1] < b[1] end)
+              for i = 1, #sessions - limit + 1 do
+                redis.call('HDEL', KEYS[1], sessions[i][2])
+                evicted = evicted + 1
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], 'username', ARGV[6], 'nickname', ARGV[7], 'userRole', ARGV[8])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return evicted
+            """, Long.class);
+
+    // KEYS[1] = 세션 해시, ARGV = [세션 필드, 제시된 토큰, 새 토큰, 현재 시각(ms), 새 만료 시각(ms), TTL(ms)]
+    // 세션의 토큰과 일치하고 만료되지 않았을 때만 교체하고 claims 를 반환. 불일치/없음이면 nil
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+              return nil
+            end
+            local createdAt, expiresAt, token, accessToken = string.match(value, '^(%d+)|(%d+)|([^|]*)|(.*)$')
+            if token ~= ARGV[2] or tonumber(expiresAt) <= tonumber(ARGV[4]) then
+              return nil
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], createdAt .. '|' .. ARGV[5] .. '|' .. ARGV[3] .. '|' .. accessToken)
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            return redis.call('HMGET', KEYS[1], 'username', 'nickname', 'userRole')
+            """, List.class);
+
+    // KEYS[1] = 세션 해시, ARGV = [세션 필드, 새 Access Token]. 세션이 이미 없으면 아무것도 하지 않음
+    private static final RedisScript<Long> SAVE_ACCESS_TOKEN_SCRIPT = RedisScript.of("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+              return 0
+            end
+            local session = string.match(value, '^(%d+|%d+|[^|]*)|')
+            if not session then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], session .. '|' .. ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final int maxSessions;
+
+    public RedisTokenStore(StringRedisTemplate redisTemplate, ReactiveStringRedisTemplate reactiveRedisTemplate) {
+        this(redisTemplate, reactiveRedisTemplate, DEFAULT_MAX_SESSIONS);
+    }
+
+    static String sessionsKey(String userId) {
+        return SESSIONS_PREFIX + userId;
+    }
+
+    // SAVE_SCRIPT 의 인자. 리액티브 저장소도 같은 스크립트와 키 구조를 사용한다
+    static List<String> saveArguments(TokenClaims claims, String sessionId, String accessToken, String refreshToken,
+                                      int maxSessions) {
+        long now = System.currentTimeMillis();
+        TokenSession session = new TokenSession(sessionId, now, now + REFRESH_TOKEN_TTL.toMillis(),
+                refreshToken, accessToken);
+        return List.of(TokenSession.field(sessionId),
+                session.encode(),
+                Long.toString(now),
+                Integer.toString(maxSessions),
+                Long.toString(REFRESH_TOKEN_TTL.toMillis()),
+                claims.username(),
+                claims.nickname(),
+                claims.userRole().name());
+    }
+
+    // 만료 세션 정리, 최대 개수 제한, 저장을 스크립트 하나로 실행해 로그인당 한 번의 왕복으로 저장
+    @Override
+    public void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+        String userId = claims.userId().toString();
+        Long evicted;
+        try {
+            List<String> arguments = saveArguments(claims, sessionId, accessToken, refreshToken, maxSessions);
+            evicted = redisTemplate.execute(SAVE_SCRIPT, List.of(sessionsKey(userId)), arguments.toArray());
+        } catch (Exception e) {
+            log.error("토큰 저장 실패: userId={}", userId, e);
+            throw new TokenStorageException("토큰 저장에 실패했습니다.");
+        }
+        if (evicted != null && evicted > 0) {
+            log.info("세션 수 제한으로 이전 세션 제거: userId={}, evicted={}", userId, evicted);
+        }
+    }
+
+    // 재발급 응답 경로에서 추가 왕복이 생기지 않도록 완료를 기다리지 않는다. 실패는 로그만 남김
+    @Override
+    public void saveAccessToken(String userId, String sessionId, String accessToken) {
+        Mono<Long> write = reactiveRedisTemplate.execute(SAVE_ACCESS_TOKEN_SCRIPT, List.of(sessionsKey(userId)),
+                        List.of(TokenSession.field(sessionId), accessToken))
+                .next();
+        write.subscribe(null, e -> log.warn("Access Token 갱신 실패: userId={}", userId, e));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TokenClaims> rotateRefreshToken(String userId, String sessionId, String presentedRefreshToken,
+                                                    String newRefreshToken) {
+        long now = System.currentTimeMillis();
+        List<String> claims;
+        try {
+            claims = redisTemplate.execute(ROTATE_SCRIPT, List.of(sessionsKey(userId)),
+                    TokenSession.field(sessionId),
+                    presentedRefreshToken,
+                    newRefreshToken,
+                    Long.toString(now),
+                    Long.toString(now + REFRESH_TOKEN_TTL.toMillis()),
+                    Long.toString(REFRESH_TOKEN_TTL.toMillis()));
+        } catch (Exception e) {
+            log.error("Refresh Token 교체 실패: userId={}", userId, e);
+            throw new TokenStorageException("토큰 저장에 실패했습니다.");
+        }
+        if (claims == null || claims.size() != 3 || claims.contains(null)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TokenClaims(Long.valueOf(userId), claims.get(0), claims.get(1), UserRole.valueOf(claims.get(2))));
+    }
+
+    // HGETALL 한 번. 세션 수는 최대 세션 수로 제한된다
+    @Override
+    public List<TokenSession> findSessions(String userId) {
+        Map<String, String> fields = redisTemplate.<String, String>opsForHash().entries(sessionsKey(userId));
+        long now = System.currentTimeMillis();
+        List<TokenSession> sessions = new ArrayList<>(fields.size());
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            TokenSession session = TokenSession.decode(field.getKey(), field.getValue());
+            if (session != null && !session.isExpired(now)) {
+                sessions.add(session);
+            }
+        }
+        sessions.sort(Comparator.comparingLong(TokenSession::createdAt));
+        return sessions;
+    }
+
+    @Override
+    public void deleteSession(String userId, String sessionId) {
+        redisTemplate.opsForHash().delete(sessionsKey(userId), TokenSession.field(sessionId));
+    }
+
+    @Override
+    public void deleteTokens(String userId) {
+        redisTemplate.delete(List.of(sessionsKey(userId), ACCESS_TOKEN_PREFIX + userId, REFRESH_TOKEN_PREFIX + userId));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.onboarding.auth.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 위임 저장소 호출 시간을 operation 별로 기록한다.
+ * 저하 모드보다 안쪽에 두어 저장소(Redis) 자체의 왕복 시간을 측정한다.
+ * saveAccessToken 은 완료를 기다리지 않는 구현이 있어 측정하지 않는다.
+ */
+public class TimedTokenStore implements TokenStore {
+
+    private final TokenStore delegate;
+    private final Timer saveTokensTimer;
+    private final Timer rotateTimer;
+    private final Timer findSessionsTimer;
+    private final Timer deleteSessionTimer;
+    private final Timer deleteTimer;
+
+    public TimedTokenStore(TokenStore delegate, String store, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.saveTokensTimer = timer(meterRegistry, store, "saveTokens");
+        this.rotateTimer = timer(meterRegistry, store, "rotateRefreshToken");
+        this.findSessionsTimer = timer(meterRegistry, store, "findSessions");
+        this.deleteSessionTimer = timer(meterRegistry, store, "deleteSession");
+        this.deleteTimer = timer(meterRegistry, store, "deleteTokens");
+    }
+
+    @Override
+    public void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+        saveTokensTimer.record(() -> delegate.saveTokens(claims, sessionId, accessToken, refreshToken));
+    }
+
+    @Override
+    public void saveAccessToken(String userId, String sessionId, String accessToken) {
+        delegate.saveAccessToken(userId, sessionId, accessToken);
+    }
+
+    @Override
+    public Optional<TokenClaims> rotateRefreshToken(String userId, String sessionId, String presentedRefreshToken,
+                                                    String newRefreshToken) {
+        return rotateTimer.record(() -> delegate.rotateRefreshToken(userId, sessionId, presentedRefreshToken, newRefreshToken));
+    }
+
+    @Override
+    public List<TokenSession> findSessions(String userId) {
+        return findSessionsTimer.record(() -> delegate.findSessions(userId));
+    }
+
+    @Override
+    public void deleteSession(String userId, String sessionId) {
+        deleteSessionTimer.record(() -> delegate.deleteSession(userId, sessionId));
+    }
+
+    @Override
+    public void deleteTokens(String userId) {
+        deleteTimer.record(() -> delegate.deleteTokens(userId));
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String store, String operation) {
+        return Timer.builder("auth.token.store.latency")
+                .description("Round trip time of token store operations")
+                .tag("store", store)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
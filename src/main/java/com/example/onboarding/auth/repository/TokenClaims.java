@@ -0,0 +1,10 @@
+package com.example.onboarding.auth.repository;
+
+import com.example.onboarding.user.enums.UserRole;
+
+/**
+ * Refresh Token 과 함께 저장하는 Access Token 발급용 claims.
+ * 토큰 재발급 시 DB 조회 없이 Access Token 을 만들기 위해 사용한다.
+ */
+public record TokenClaims(Long userId, String username, String nickname, UserRole userRole) {
+}
@@ -0,0 +1,53 @@
+package com.example.onboarding.auth.repository;
+
+/**
+ * 사용자의 로그인 세션 하나 (기기별). expiresAt 은 Refresh Token 의 만료 시각이며 교체할 때마다 연장된다.
+ * Redis 에서는 세션 해시의 "s:{sessionId}" 필드에 "createdAt|expiresAt|refreshToken|accessToken" 으로 저장한다.
+ */
+public record TokenSession(String sessionId, long createdAt, long expiresAt, String refreshToken, String accessToken) {
+
+    static final String FIELD_PREFIX = "s:";
+    private static final char SEPARATOR = '|'; // JWT 에 쓰이지 않는 문자
+
+    static String field(String sessionId) {
+        return FIELD_PREFIX + sessionId;
+    }
+
+    String encode() {
+        return Long.toString(createdAt) + SEPARATOR + expiresAt + SEPARATOR + refreshToken + SEPARATOR + accessToken;
+    }
+
+    // 형식이 맞지 않으면 null
+    static TokenSession decode(String field, String value) {
+        if (!field.startsWith(FIELD_PREFIX)) {
+            return null;
+        }
+        int first = value.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : value.indexOf(SEPARATOR, first + 1);
+        int third = second < 0 ? -1 : value.indexOf(SEPARATOR, second + 1);
+        if (third < 0) {
+            return null;
+        }
+        try {
+            return new TokenSession(field.substring(FIELD_PREFIX.length()),
+                    Long.parseLong(value, 0, first, 10),
+                    Long.parseLong(value, first + 1, second, 10),
+                    value.substring(second + 1, third),
+                    value.substring(third + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    TokenSession withRefreshToken(String newRefreshToken, long newExpiresAt) {
+        return new TokenSession(sessionId, createdAt, newExpiresAt, newRefreshToken, accessToken);
+    }
+
+    TokenSession withAccessToken(String newAccessToken) {
+        return new TokenSession(sessionId, createdAt, expiresAt, refreshToken, newAccessToken);
+    }
+}
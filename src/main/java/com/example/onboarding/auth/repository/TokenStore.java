@@ -0,0 +1,35 @@
+package com.example.onboarding.auth.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 로그인 세션(기기별 Access/Refresh 토큰) 저장소.
+ * 한 사용자의 세션은 한 곳(Redis 에서는 해시 키 하나)에 모여 있어 목록 조회와 전체 폐기에 키 스캔이 필요 없다.
+ */
+public interface TokenStore {
+
+    Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(60);
+    Duration REFRESH_TOKEN_TTL = Duration.ofHours(24);
+    int DEFAULT_MAX_SESSIONS = 5;
+
+    // 새 세션으로 저장하고 재발급용 claims 를 갱신. 세션 수가 최대치를 넘으면 가장 오래된 세션을 제거 (한 번의 왕복)
+    void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken);
+
+    // 세션의 Access Token 만 갱신. 재발급 응답을 막지 않도록 구현체는 완료를 기다리지 않을 수 있다
+    void saveAccessToken(String userId, String sessionId, String accessToken);
+
+    // 세션에 저장된 Refresh Token 이 presentedRefreshToken 과 같을 때만 newRefreshToken 으로 원자적으로 교체하고 저장된 claims 반환
+    Optional<TokenClaims> rotateRefreshToken(String userId, String sessionId, String presentedRefreshToken,
+                                             String newRefreshToken);
+
+    // 만료되지 않은 세션 목록 (생성 순)
+    List<TokenSession> findSessions(String userId);
+
+    // 세션 하나 폐기 (해당 기기 로그아웃)
+    void deleteSession(String userId, String sessionId);
+
+    // 모든 세션 폐기
+    void deleteTokens(String userId);
+}
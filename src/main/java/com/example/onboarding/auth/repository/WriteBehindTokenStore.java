@@ -0,0 +1,227 @@
+package com.example.onboarding.auth.repository;
+
+import com.example.onboarding.common.exception.TokenStorageException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저하 모드(degraded mode) 저장소.
+ * 위임 저장소의 쓰기가 실패하면 세션별 최신 쓰기만 고정 크기 대기열에 보관하고 주기적으로 재시도한다.
+ * 대기열이 가득 찬 경우에만 TokenStorageException 을 던진다.
+ * 재시도 중에도 쓰기는 대기열에 남아 있어 동시에 들어온 교체가 이를 기준으로 처리되고, 저장에 성공한 뒤에야 대기열에서 빠진다.
+ * 대기열이 비어 있지 않은 동안의 로그아웃은 삭제 기록(tombstone)으로 남겨, 진행 중이던 재저장이 세션을 되살리지 않게 한다.
+ */
+@Slf4j
+public class WriteBehindTokenStore implements TokenStore, DisposableBean {
+
+    private final TokenStore delegate;
+    private final int capacity;
+    private final Map<SessionKey, PendingWrite> pending = new ConcurrentHashMap<>();
+    // 삭제 기록. 세션 ID 는 재사용되지 않으므로 세션 단위는 존재 여부만, 사용자 단위는 삭제 시점의 쓰기 순번을 둔다
+    private final Set<SessionKey> deletedSessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> deletedUsers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService retryExecutor;
+    private final Counter deferred;
+    private final Counter dropped;
+
+    public WriteBehindTokenStore(TokenStore delegate, int capacity, Duration retryInterval, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-store-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryExecutor.scheduleWithFixedDelay(this::retryPending,
+                retryInterval.toMillis(), retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        this.deferred = Counter.builder("auth.token.store.deferred")
+                .description("Token writes queued for retry after a store failure")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("auth.token.store.dropped")
+                .description("Queued token writes discarded because their session expired")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.store.pending", pending, Map::size)
+                .description("Token writes waiting for retry")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+        SessionKey key = new SessionKey(claims.userId().toString(), sessionId);
+        // 새 쓰기가 이전에 밀린 쓰기를 대체
+        pending.remove(key);
+        try {
+            delegate.saveTokens(claims, sessionId, accessToken, refreshToken);
+        } catch (TokenStorageException e) {
+            if (pending.size() >= capacity) {
+                throw e;
+            }
+            long now = System.currentTimeMillis();
+            pending.put(key, new PendingWrite(claims, accessToken, refreshToken, now, now + REFRESH_TOKEN_TTL.toMillis(),
+                    sequence.incrementAndGet()));
+            deferred.increment();
+        }
+    }
+
+    @Override
+    public void saveAccessToken(String userId, String sessionId, String accessToken) {
+        SessionKey key = new SessionKey(userId, sessionId);
+        PendingWrite write = pending.get(key);
+        if (write != null && pending.replace(key, write, write.withAccessToken(accessToken))) {
+            return;
+        }
+        delegate.saveAccessToken(userId, sessionId, accessToken);
+    }
+
+    // 아직 저장되지 못한 쓰기가 있으면 그 Refresh Token 을 기준으로 교체
+    @Override
+    public Optional<TokenClaims> rotateRefreshToken(String userId, String sessionId, String presentedRefreshToken,
+                                                    String newRefreshToken) {
+        SessionKey key = new SessionKey(userId, sessionId);
+        PendingWrite write = pending.get(key);
+        if (write == null) {
+            return delegate.rotateRefreshToken(userId, sessionId, presentedRefreshToken, newRefreshToken);
+        }
+        if (!write.refreshToken().equals(presentedRefreshToken)
+                || !pending.replace(key, write, write.withRefreshToken(newRefreshToken))) {
+            return Optional.empty();
+        }
+        return Optional.of(write.claims());
+    }
+
+    // 저장소의 세션에 아직 저장되지 못한 세션을 더한다 (대기열 전체를 훑지만 장애 중에만 비어 있지 않다)
+    @Override
+    public List<TokenSession> findSessions(String userId) {
+        List<TokenSession> sessions = new ArrayList<>(delegate.findSessions(userId));
+        if (pending.isEmpty()) {
+            return sessions;
+        }
+        for (Map.Entry<SessionKey, PendingWrite> entry : pending.entrySet()) {
+            if (entry.getKey().userId().equals(userId)) {
+                String sessionId = entry.getKey().sessionId();
+                sessions.removeIf(session -> session.sessionId().equals(sessionId));
+                sessions.add(entry.getValue().toSession(sessionId));
+            }
+        }
+        sessions.sort(Comparator.comparingLong(TokenSession::createdAt));
+        return sessions;
+    }
+
+    // 삭제 기록을 먼저 남긴 뒤 대기열에서 지운다 (재저장 스레드가 저장 직후 확인한다)
+    @Override
+    public void deleteSession(String userId, String sessionId) {
+        SessionKey key = new SessionKey(userId, sessionId);
+        if (!pending.isEmpty()) {
+            deletedSessions.add(key);
+            pending.remove(key);
+        }
+        delegate.deleteSession(userId, sessionId);
+    }
+
+    @Override
+    public void deleteTokens(String userId) {
+        if (!pending.isEmpty()) {
+            deletedUsers.put(userId, sequence.get());
+            pending.keySet().removeIf(key -> key.userId().equals(userId));
+        }
+        delegate.deleteTokens(userId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    void retryPending() {
+        // 대기 중인 쓰기가 없으면 되살릴 세션도 없다
+        if (pending.isEmpty()) {
+            deletedSessions.clear();
+            deletedUsers.clear();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<SessionKey, PendingWrite> entry : pending.entrySet()) {
+            SessionKey key = entry.getKey();
+            PendingWrite write = entry.getValue();
+            if (write.expiresAt() <= now) {
+                if (pending.remove(key, write)) {
+                    dropped.increment();
+                }
+                continue;
+            }
+            try {
+                delegate.saveTokens(write.claims(), key.sessionId(), write.accessToken(), write.refreshToken());
+            } catch (RuntimeException e) {
+                // 대기열에 그대로 남아 있다. 그 사이 로그아웃했다면 이미 지워졌으므로 다시 넣지 않는다
+                log.warn("토큰 재저장 실패, 다음 주기에 재시도합니다. 대기 건수={}", pending.size());
+                return;
+            }
+            if (isDeleted(key, write)) {
+                // 저장하는 사이에 로그아웃했다면 되살린 세션을 다시 지운다
+                undoResurrectedSession(key);
+                continue;
+            }
+            // 그 사이 교체 등으로 더 최신 쓰기가 들어왔다면 남겨 두고 다음 주기에 저장
+            pending.remove(key, write);
+        }
+    }
+
+    private boolean isDeleted(SessionKey key, PendingWrite write) {
+        if (deletedSessions.contains(key)) {
+            return true;
+        }
+        Long deletedAt = deletedUsers.get(key.userId());
+        return deletedAt != null && write.sequence() <= deletedAt;
+    }
+
+    private void undoResurrectedSession(SessionKey key) {
+        try {
+            delegate.deleteSession(key.userId(), key.sessionId());
+        } catch (RuntimeException e) {
+            log.warn("로그아웃된 세션을 다시 삭제하지 못했습니다. userId={}", key.userId(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        retryExecutor.shutdown();
+    }
+
+    private record SessionKey(String userId, String sessionId) {
+    }
+
+    // expiresAt 은 세션(Refresh Token)의 만료 시각. 그 뒤에는 재저장해도 의미가 없다
+    // sequence 는 처음 대기열에 들어온 순번으로, 전체 로그아웃보다 먼저 만들어진 쓰기인지 판단한다
+    private record PendingWrite(TokenClaims claims, String accessToken, String refreshToken, long createdAt, long expiresAt,
+                                long sequence) {
+
+        PendingWrite withAccessToken(String newAccessToken) {
+            return new PendingWrite(claims, newAccessToken, refreshToken, createdAt, expiresAt, sequence);
+        }
+
+        PendingWrite withRefreshToken(String newRefreshToken) {
+            return new PendingWrite(claims, accessToken, newRefreshToken, createdAt, expiresAt, sequence);
+        }
+
+        TokenSession toSession(String sessionId) {
+            return new TokenSession(sessionId, createdAt, expiresAt, refreshToken, accessToken);
+        }
+    }
+}
@@ -2,55 +2,119 @@ package com.example.onboarding.auth.service;
 
 import com.example.onboarding.auth.dto.request.SignRequest;
 import com.example.onboarding.auth.dto.request.SignupRequest;
-import com.example.onboarding.auth.dto.response.SignResponse;
+import com.example.onboarding.auth.dto.response.SessionResponse;
 import com.example.onboarding.auth.dto.response.SignupResponse;
+import com.example.onboarding.auth.repository.TokenClaims;
+import com.example.onboarding.auth.repository.TokenStore;
+import com.example.onboarding.common.audit.AuthAuditLog;
+import com.example.onboarding.common.audit.AuthEvent;
+import com.example.onboarding.common.config.BCryptCalibration;
 import com.example.onboarding.common.config.JwtUtil;
+import com.example.onboarding.common.config.PasswordHasher;
+import com.example.onboarding.common.config.TokenRevocationList;
+import com.example.onboarding.common.config.VerifiedToken;
+import com.example.onboarding.common.datasource.ReadYourWrites;
+import com.example.onboarding.common.dto.AuthUser;
 import com.example.onboarding.common.exception.InvalidRequestException;
-import com.example.onboarding.common.exception.TokenStorageException;
+import com.example.onboarding.common.exception.LoginFailedException;
 import com.example.onboarding.user.entity.User;
+import com.example.onboarding.user.repository.UserCredentials;
 import com.example.onboarding.user.repository.UserRepository;
+import com.example.onboarding.user.service.UserCredentialCache;
+import com.example.onboarding.user.service.UserService;
+import com.example.onboarding.user.service.UsernameFilter;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UsernameFilter usernameFilter;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
-    private static final String ACCESS_TOKEN_PREFIX = "ACCESS_TOKEN_";
-    private static final String REFRESH_TOKEN_PREFIX = "REFRESH_TOKEN_";
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 60L;
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 24L;
-
+    private final TokenStore tokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final BCryptCalibration bCryptCalibration;
+    private final MeterRegistry meterRegistry;
+    private final AuthAuditLog authAuditLog;
+    private final UserService userService;
+    private final ReadYourWrites readYourWrites;
+    private final UserCredentialCache userCredentialCache;
+
+    // 시도마다 결과와 소요 시간을 감사 로그에 남긴다 (요청 스레드에서는 링 버퍼에 넣기만 함). 성공은 커밋 후에 기록된다
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
-        log.info("회원가입 시도: username={}", signupRequest.getUsername());
+        long startedAt = System.nanoTime();
+        try {
+            SignupResponse signupResponse = register(signupRequest);
+            authAuditLog.success(AuthEvent.Action.SIGNUP, signupRequest.getUsername(), startedAt);
+            return signupResponse;
+        } catch (RuntimeException e) {
+            authAuditLog.failure(AuthEvent.Action.SIGNUP, signupRequest.getUsername(), e.getMessage(), startedAt);
+            throw e;
+        }
+    }
+
+    // 사용자 조회와 재해시 저장은 UserService 의 짧은 트랜잭션에서 하고, BCrypt 와 토큰 발급 동안은 DB 커넥션을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SignResult sign(SignRequest signRequest) {
+        long startedAt = System.nanoTime();
+        try {
+            SignResult signResult = authenticate(signRequest);
+            authAuditLog.success(AuthEvent.Action.SIGN, signRequest.getUsername(), startedAt);
+            return signResult;
+        } catch (RuntimeException e) {
+            authAuditLog.failure(AuthEvent.Action.SIGN, signRequest.getUsername(), e.getMessage(), startedAt);
+            throw e;
+        }
+    }
 
-        if (userRepository.existsByUsername(signupRequest.getUsername())) {
+    private SignupResponse register(SignupRequest signupRequest) {
+        // Bloom filter 가 확실히 없다고 하면 중복 조회 생략 (최종 판단은 username 유니크 제약)
+        if (usernameFilter.mightExist(signupRequest.getUsername())
+                && userRepository.existsByUsername(signupRequest.getUsername())) {
             throw new InvalidRequestException("Already exists username");
         }
 
-        validateNewPassword(signupRequest.getPassword());
+        PasswordPolicy.validate(signupRequest.getPassword());
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
 
         User newUser = User.from(signupRequest, encodedPassword);
-        User savedUser = userRepository.save(newUser);
-
-        log.info("회원가입 성공: username={}", savedUser.getUsername());
+        User savedUser;
+        try {
+            // 제약 위반을 이 자리에서 받기 위해 즉시 flush
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateKey(e)) {
+                throw e;
+            }
+            usernameFilter.add(signupRequest.getUsername());
+            throw new InvalidRequestException("Already exists username");
+        }
+        usernameFilter.add(savedUser.getUsername());
+        // 가입 직후 로그인이 아직 복제되지 않은 복제본을 읽지 않도록
+        readYourWrites.recordWrite(savedUser.getUsername());
 
         return new SignupResponse(
                 savedUser.getUsername(),
@@ -58,54 +122,103 @@ public class AuthService {
                 List.of(new SimpleGrantedAuthority(savedUser.getUserRole().name())));
     }
 
-    @Transactional
-    public SignResponse sign(SignRequest signRequest) {
-        log.info("로그인 시도: username={}", signRequest.getUsername());
+    private SignResult authenticate(SignRequest signRequest) {
+        String username = signRequest.getUsername();
+        UserCredentials user = userCredentialCache.get(username, () -> userService.findCredentials(username))
+                .orElseThrow(() -> LoginFailedException.INVALID_USERNAME);
 
-        User user = userRepository.findByUsername(signRequest.getUsername()).orElseThrow(
-                () -> new InvalidRequestException("Invalid username"));
+        if (!passwordHasher.matches(signRequest.getPassword(), user.password())) {
+            throw LoginFailedException.INVALID_PASSWORD;
+        }
 
-        if (!passwordEncoder.matches(signRequest.getPassword(), user.getPassword())) {
-            throw new InvalidRequestException("Invalid password");
+        // 저장된 해시의 비용이 현재 설정보다 낮으면 재해시
+        if (bCryptCalibration.needsRehash(user.password())) {
+            userService.changePasswordHash(user.id(), user.username(), passwordHasher.encode(signRequest.getPassword()));
+            meterRegistry.counter("auth.bcrypt.rehash").increment();
         }
 
+        // 로그인마다 새 세션. 다른 기기의 세션은 그대로 두고, 최대 개수를 넘으면 가장 오래된 세션이 제거된다
+        String sessionId = UUID.randomUUID().toString();
         String accessToken = createAccessToken(user);
-        String refreshToken = createRefreshToken(user);
-        saveTokens(user.getId().toString(), accessToken, refreshToken);
+        String refreshToken = createRefreshToken(user, sessionId);
+        saveTokens(new TokenClaims(user.id(), user.username(), user.nickname(), user.userRole()),
+                sessionId, accessToken, refreshToken);
 
-        jwtUtil.setAccessTokenCookie(accessToken);
-        jwtUtil.setRefreshTokenCookie(refreshToken);
+        return new SignResult(accessToken, refreshToken);
+    }
 
-        log.info("로그인 성공: username={}", user.getUsername());
+    // Refresh Token 검증 후 Redis 에서 원자적으로 교체. 저장된 claims 로 Access Token 을 만들어 DB 를 조회하지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    public SignResult refresh(String refreshToken) {
+        if (refreshToken == null || !refreshToken.startsWith("Bearer ")) {
+            throw new InvalidRequestException("Invalid refresh token");
+        }
 
-        return new SignResponse(accessToken);
+        VerifiedToken verified;
+        try {
+            verified = jwtUtil.verifyToken(jwtUtil.substringToken(refreshToken));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid refresh token");
+        }
+
+        String userId = verified.getSubject();
+        // 세션 ID 가 없는 이전 형식의 Refresh Token 은 다시 로그인해야 한다
+        String sessionId = verified.getSessionId();
+        if (userId == null || sessionId == null
+                || tokenRevocationList.isRevoked(Long.parseLong(userId), verified.getIssuedAt())) {
+            throw new InvalidRequestException("Invalid refresh token");
+        }
+
+        String newRefreshToken = jwtUtil.createRefreshToken(Long.parseLong(userId), sessionId);
+        // 이미 사용된(교체된) 토큰이거나 로그아웃/폐기된 세션인 경우 실패
+        TokenClaims claims = tokenStore.rotateRefreshToken(userId, sessionId, refreshToken, newRefreshToken)
+                .orElseThrow(() -> new InvalidRequestException("Invalid refresh token"));
+
+        String accessToken = jwtUtil.createAccessToken(claims.userId(), claims.username(), claims.nickname(), claims.userRole());
+        tokenStore.saveAccessToken(userId, sessionId, accessToken);
+
+        return new SignResult(accessToken, newRefreshToken);
     }
 
-    public String createAccessToken(User user) {
-        return jwtUtil.createAccessToken(user.getId(), user.getUsername(), user.getNickname(), user.getUserRole());
+    // 모든 기기에서 로그아웃. 세션 해시 키 하나만 삭제한다
+    public void logout(AuthUser authUser) {
+        tokenRevocationList.revokeUser(authUser.getId());
+        tokenStore.deleteTokens(authUser.getId().toString());
     }
 
-    public String createRefreshToken(User user) {
-        return jwtUtil.createRefreshToken(user.getId());
+    public List<SessionResponse> sessions(AuthUser authUser) {
+        return tokenStore.findSessions(authUser.getId().toString()).stream()
+                .map(SessionResponse::from)
+                .toList();
     }
 
-    public void saveTokens(String userId, String accessToken, String refreshToken) {
-        try {
-            redisTemplate.opsForValue().set(ACCESS_TOKEN_PREFIX + userId, accessToken,
-                    ACCESS_TOKEN_EXPIRE_TIME, TimeUnit.MINUTES);
-            redisTemplate.opsForValue().set(REFRESH_TOKEN_PREFIX + userId, refreshToken,
-                    REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.HOURS);
-        } catch (Exception e) {
-            log.error("토큰 저장 실패: userId={}", userId, e);
-            throw new TokenStorageException("토큰 저장에 실패했습니다.");
-        }
+    // 세션 하나 폐기. 해당 기기는 토큰을 재발급받을 수 없고, 이미 발급된 Access Token 은 만료(1시간)까지 유효하다
+    public void revokeSession(AuthUser authUser, String sessionId) {
+        tokenStore.deleteSession(authUser.getId().toString(), sessionId);
     }
 
-    private void validateNewPassword(String password) {
-        if (password.length() < 8 ||
-                !password.matches(".*\\d.*") ||
-                !password.matches(".*[A-Z].*")) {
-            throw new InvalidRequestException("비밀번호는 8자 이상, 영문, 숫자, 특수문자를 포함해야 합니다");
-        }
+    public String createAccessToken(UserCredentials user) {
+        return jwtUtil.createAccessToken(user.id(), user.username(), user.nickname(), user.userRole());
+    }
+
+    public String createRefreshToken(UserCredentials user, String sessionId) {
+        return jwtUtil.createRefreshToken(user.id(), sessionId);
+    }
+
+    // 저하 모드의 대기열 처리까지 포함한 시간. Redis 왕복만의 시간은 auth.token.store.latency
+    public void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+        meterRegistry.timer("auth.token.save")
+                .record(() -> tokenStore.saveTokens(claims, sessionId, accessToken, refreshToken));
+    }
+
+    // MySQL 중복 키 오류 (ER_DUP_ENTRY)
+    static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+                || e.getMostSpecificCause() instanceof SQLException sqlException
+                && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+    }
+
+    // 쿠키는 컨트롤러에서 응답에 설정 (ReactiveAuthService.SignResult 와 같은 형태)
+    public record SignResult(String accessToken, String refreshToken) {
     }
 }
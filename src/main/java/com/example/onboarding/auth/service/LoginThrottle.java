@@ -0,0 +1,68 @@
+package com.example.onboarding.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * username 별, IP 별 로그인 시도 제한 (sliding window).
+ * 카운터는 Redis 에 두고 Lua 스크립트로 확인과 증가를 원자적으로 처리해 모든 노드가 같은 한도를 공유한다.
+ * 창은 고정 창 두 개(현재, 직전)를 경과 비율로 가중 합산해 근사한다.
+ * 한 번 거절된 키는 창이 끝날 때까지 노드 메모리에 기억해 두고 Redis 왕복 없이 거절한다.
+ * DB 조회와 BCrypt 보다 먼저 실행해야 의미가 있다. 리액티브 스택은 {@link ReactiveLoginThrottle} 을 쓴다.
+ */
+@Component
+@Profile("!reactive")
+public class LoginThrottle {
+
+    public static final String USERNAME_KEY_PREFIX = "LOGIN_THROTTLE_USER_";
+    public static final String IP_KEY_PREFIX = "LOGIN_THROTTLE_IP_";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoginThrottleSupport support;
+
+    public LoginThrottle(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${security.login-throttle.username-limit:10}") int usernameLimit,
+            @Value("${security.login-throttle.ip-limit:100}") int ipLimit,
+            @Value("${security.login-throttle.window:1m}") Duration window,
+            @Value("${security.login-throttle.local-cache-size:10000}") int localCacheSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.support = new LoginThrottleSupport(meterRegistry, usernameLimit, ipLimit, window, localCacheSize);
+    }
+
+    /**
+     * 시도 한 번을 확인한다. 한도를 넘었으면 LoginThrottledException.
+     * IP 한도는 모든 시도를, username 한도는 {@link #recordFailure} 로 기록된 실패만 센다.
+     * Redis 장애 시에는 로그인 자체를 막지 않도록 통과시킨다.
+     */
+    public void acquire(String username, String clientIp) {
+        LoginThrottleSupport.Attempt attempt = support.begin(username, clientIp);
+        Long result;
+        try {
+            result = redisTemplate.execute(LoginThrottleSupport.ACQUIRE_SCRIPT, attempt.keys(), attempt.args().toArray());
+        } catch (Exception e) {
+            support.acquireFailed(username, e);
+            return;
+        }
+        support.complete(attempt, result);
+    }
+
+    /**
+     * 로그인 실패 한 번을 username 한도에 기록한다. 성공한 로그인은 한도를 소모하지 않는다.
+     * 확인과 기록 사이에 동시에 들어온 시도만큼은 한도를 넘을 수 있다.
+     */
+    public void recordFailure(String username) {
+        try {
+            redisTemplate.execute(LoginThrottleSupport.FAILURE_SCRIPT, support.failureKeys(username), support.counterTtl());
+        } catch (Exception e) {
+            support.recordFailureFailed(username, e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.onboarding.auth.service;
+
+import com.example.onboarding.common.cache.ExpiringLruCache;
+import com.example.onboarding.common.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link LoginThrottle} 과 {@link ReactiveLoginThrottle} 이 공유하는 부분.
+ * Lua 스크립트, 창 계산, 거절된 키의 로컬 캐시, 지표를 가지며 Redis 호출만 각 스택의 템플릿으로 한다.
+ * 두 스택이 같은 키와 스크립트를 쓰므로 같은 Redis 에서 한도를 공유한다.
+ */
+@Slf4j
+final class LoginThrottleSupport {
+
+    // KEYS = [username 현재 창, username 직전 창, IP 현재 창, IP 직전 창]
+    // ARGV = [username 한도, IP 한도, 직전 창 가중치(0~1000), 카운터 TTL(ms)]
+    // 두 추정치가 모두 한도 미만일 때만 IP 현재 창을 증가. 0 = 허용, 1 = username 초과, 2 = IP 초과
+    // username 카운터는 실패한 시도만 센다 (FAILURE_SCRIPT)
+    static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local function estimate(current, previous)
+              return tonumber(redis.call('GET', current) or '0')
+                + tonumber(redis.call('GET', previous) or '0') * tonumber(ARGV[3]) / 1000
+            end
+            if estimate(KEYS[1], KEYS[2]) >= tonumber(ARGV[1]) then
+              return 1
+            end
+            if estimate(KEYS[3], KEYS[4]) >= tonumber(ARGV[2]) then
+              return 2
+            end
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            return 0
+            """, Long.class);
+
+    // KEYS = [username 현재 창], ARGV = [카운터 TTL(ms)]
+    static final RedisScript<Long> FAILURE_SCRIPT = RedisScript.of("""
+            local count = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return count
+            """, Long.class);
+
+    private final String usernameLimit;
+    private final String ipLimit;
+    private final long windowMillis;
+    private final String counterTtl;
+    // 거절된 키 -> 거절이 유지되는 시각
+    private final ExpiringLruCache<String, Long> blocked;
+
+    private final Counter allowed;
+    private final Counter rejectedLocally;
+    private final Counter rejectedByUsername;
+    private final Counter rejectedByIp;
+    private final Counter errors;
+
+    LoginThrottleSupport(MeterRegistry meterRegistry, int usernameLimit, int ipLimit, Duration window, int localCacheSize) {
+        this.usernameLimit = Integer.toString(usernameLimit);
+        this.ipLimit = Integer.toString(ipLimit);
+        this.windowMillis = window.toMillis();
+        // 직전 창까지 읽으므로 창 두 개 동안 유지
+        this.counterTtl = Long.toString(windowMillis * 2);
+        this.blocked = new ExpiringLruCache<>(localCacheSize);
+
+        this.allowed = counter(meterRegistry, "allowed");
+        this.rejectedLocally = counter(meterRegistry, "rejected_local");
+        this.rejectedByUsername = counter(meterRegistry, "rejected_username");
+        this.rejectedByIp = counter(meterRegistry, "rejected_ip");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    /**
+     * 시도 한 번의 스크립트 인자를 만든다. 이미 거절된 키라면 Redis 를 거치지 않고 LoginThrottledException.
+     */
+    Attempt begin(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        String usernameKey = usernameKey(username);
+        String ipKey = LoginThrottle.IP_KEY_PREFIX + clientIp;
+
+        Long blockedUntil = blocked.get(usernameKey, now);
+        if (blockedUntil == null) {
+            blockedUntil = blocked.get(ipKey, now);
+        }
+        if (blockedUntil != null) {
+            rejectedLocally.increment();
+            throw new LoginThrottledException(retryAfterSeconds(blockedUntil - now));
+        }
+
+        long window = now / windowMillis;
+        long remaining = (window + 1) * windowMillis - now;
+        // 현재 창이 지난 만큼 직전 창의 비중을 줄인다
+        long previousWeight = remaining * 1000 / windowMillis;
+        return new Attempt(usernameKey, ipKey, now, remaining,
+                List.of(usernameKey + ":" + window, usernameKey + ":" + (window - 1),
+                        ipKey + ":" + window, ipKey + ":" + (window - 1)),
+                List.of(usernameLimit, ipLimit, Long.toString(previousWeight), counterTtl));
+    }
+
+    // ACQUIRE_SCRIPT 결과를 반영한다. 한도를 넘었으면 LoginThrottledException
+    void complete(Attempt attempt, Long result) {
+        if (result == null || result == 0L) {
+            allowed.increment();
+            return;
+        }
+        String rejectedKey;
+        if (result == 1L) {
+            rejectedKey = attempt.usernameKey();
+            rejectedByUsername.increment();
+        } else {
+            rejectedKey = attempt.ipKey();
+            rejectedByIp.increment();
+        }
+        // 현재 창이 끝날 때까지는 다시 물어볼 필요가 없다
+        long blockedUntil = attempt.startedAt() + attempt.remaining();
+        blocked.put(rejectedKey, blockedUntil, blockedUntil);
+        log.warn("로그인 시도 제한: key={}", rejectedKey);
+        throw new LoginThrottledException(retryAfterSeconds(attempt.remaining()));
+    }
+
+    // Redis 장애 시에는 로그인 자체를 막지 않도록 통과시킨다
+    void acquireFailed(String username, Throwable e) {
+        errors.increment();
+        log.warn("로그인 시도 제한 확인 실패, 제한 없이 진행합니다: username={}", username, e);
+    }
+
+    List<String> failureKeys(String username) {
+        return List.of(usernameKey(username) + ":" + System.currentTimeMillis() / windowMillis);
+    }
+
+    String counterTtl() {
+        return counterTtl;
+    }
+
+    void recordFailureFailed(String username, Throwable e) {
+        errors.increment();
+        log.warn("로그인 실패 기록 실패: username={}", username, e);
+    }
+
+    // username 유니크 제약과 같이 대소문자를 구분하지 않는다
+    private static String usernameKey(String username) {
+        return LoginThrottle.USERNAME_KEY_PREFIX + username.toLowerCase(Locale.ROOT);
+    }
+
+    private static long retryAfterSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.login.throttle")
+                .description("Login attempts checked by LoginThrottle")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    record Attempt(String usernameKey, String ipKey, long startedAt, long remaining, List<String> keys,
+                   List<String> args) {
+    }
+}
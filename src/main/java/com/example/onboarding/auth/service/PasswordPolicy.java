@@ -0,0 +1,18 @@
+package com.example.onboarding.auth.service;
+
+import com.example.onboarding.common.exception.InvalidRequestException;
+
+// 가입 시 비밀번호 규칙. 서블릿/리액티브 스택이 같은 규칙을 사용한다
+public final class PasswordPolicy {
+
+    private PasswordPolicy() {
+    }
+
+    public static void validate(String password) {
+        if (password.length() < 8 ||
+                !password.matches(".*\\d.*") ||
+                !password.matches(".*[A-Z].*")) {
+            throw new InvalidRequestException("비밀번호는 8자 이상, 영문, 숫자, 특수문자를 포함해야 합니다");
+        }
+    }
+}
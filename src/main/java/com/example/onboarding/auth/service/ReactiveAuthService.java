@@ -0,0 +1,129 @@
+package com.example.onboarding.auth.service;
+
+import com.example.onboarding.auth.dto.request.SignRequest;
+import com.example.onboarding.auth.dto.request.SignupRequest;
+import com.example.onboarding.auth.dto.response.SignupResponse;
+import com.example.onboarding.auth.repository.ReactiveRedisTokenStore;
+import com.example.onboarding.auth.repository.TokenClaims;
+import com.example.onboarding.common.audit.AuthAuditLog;
+import com.example.onboarding.common.audit.AuthEvent;
+import com.example.onboarding.common.config.BCryptCalibration;
+import com.example.onboarding.common.config.JwtUtil;
+import com.example.onboarding.common.config.PasswordHasher;
+import com.example.onboarding.common.exception.InvalidRequestException;
+import com.example.onboarding.common.exception.LoginFailedException;
+import com.example.onboarding.common.id.Snowflake;
+import com.example.onboarding.common.id.SnowflakeIdGenerator;
+import com.example.onboarding.user.entity.UserRecord;
+import com.example.onboarding.user.repository.ReactiveUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link AuthService} 의 회원가입/로그인을 논블로킹으로 구현한 리액티브 스택용 서비스.
+ * DB 는 R2DBC, 토큰 저장은 리액티브 Redis, BCrypt 는 {@link PasswordHasher} 의 전용 풀에서 실행한다.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveAuthService {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final JwtUtil jwtUtil;
+    private final ReactiveRedisTokenStore tokenStore;
+    private final BCryptCalibration bCryptCalibration;
+    private final MeterRegistry meterRegistry;
+    private final AuthAuditLog authAuditLog;
+    private final Snowflake snowflake;
+
+    public ReactiveAuthService(
+            ReactiveUserRepository userRepository,
+            PasswordHasher passwordHasher,
+            JwtUtil jwtUtil,
+            ReactiveRedisTokenStore tokenStore,
+            BCryptCalibration bCryptCalibration,
+            MeterRegistry meterRegistry,
+            AuthAuditLog authAuditLog,
+            @Value("${spring.jpa.properties.onboarding.id.node-id:}") String nodeId
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.jwtUtil = jwtUtil;
+        this.tokenStore = tokenStore;
+        this.bCryptCalibration = bCryptCalibration;
+        this.meterRegistry = meterRegistry;
+        this.authAuditLog = authAuditLog;
+        // JPA 의 @SnowflakeId 와 같은 노드 ID 설정을 사용
+        this.snowflake = Snowflake.forNode(SnowflakeIdGenerator.resolveNodeId(nodeId));
+    }
+
+    public Mono<SignupResponse> signup(SignupRequest signupRequest) {
+        long startedAt = System.nanoTime();
+        return userRepository.existsByUsername(signupRequest.getUsername())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new InvalidRequestException("Already exists username"));
+                    }
+                    PasswordPolicy.validate(signupRequest.getPassword());
+                    return passwordHasher.encodeAsync(signupRequest.getPassword());
+                })
+                .flatMap(encodedPassword -> userRepository.save(
+                        UserRecord.from(snowflake.nextId(), signupRequest, encodedPassword)))
+                // 동시에 같은 username 으로 가입한 경우 유니크 제약에서 걸러진다
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> AuthService.isDuplicateKey(e) ? new InvalidRequestException("Already exists username") : e)
+                .map(savedUser -> new SignupResponse(
+                        savedUser.getUsername(),
+                        savedUser.getNickname(),
+                        List.of(new SimpleGrantedAuthority(savedUser.getUserRole().name()))))
+                .doOnSuccess(response -> authAuditLog.success(AuthEvent.Action.SIGNUP, signupRequest.getUsername(), startedAt))
+                .doOnError(e -> authAuditLog.failure(AuthEvent.Action.SIGNUP, signupRequest.getUsername(), e.getMessage(), startedAt));
+    }
+
+    public Mono<SignResult> sign(SignRequest signRequest) {
+        long startedAt = System.nanoTime();
+        return userRepository.findByUsername(signRequest.getUsername())
+                .switchIfEmpty(Mono.error(LoginFailedException.INVALID_USERNAME))
+                .flatMap(user -> passwordHasher.matchesAsync(signRequest.getPassword(), user.getPassword())
+                        .flatMap(matches -> matches
+                                ? rehashIfNeeded(user, signRequest.getPassword())
+                                : Mono.error(LoginFailedException.INVALID_PASSWORD)))
+                .flatMap(user -> {
+                    String accessToken = jwtUtil.createAccessToken(user.getId(), user.getUsername(), user.getNickname(), user.getUserRole());
+                    String sessionId = UUID.randomUUID().toString();
+                    String refreshToken = jwtUtil.createRefreshToken(user.getId(), sessionId);
+                    TokenClaims claims = new TokenClaims(user.getId(), user.getUsername(), user.getNickname(), user.getUserRole());
+                    return tokenStore.saveTokens(claims, sessionId, accessToken, refreshToken)
+                            .thenReturn(new SignResult(accessToken, refreshToken));
+                })
+                .doOnSuccess(result -> authAuditLog.success(AuthEvent.Action.SIGN, signRequest.getUsername(), startedAt))
+                .doOnError(e -> authAuditLog.failure(AuthEvent.Action.SIGN, signRequest.getUsername(), e.getMessage(), startedAt));
+    }
+
+    // 저장된 해시의 비용이 현재 설정보다 낮으면 재해시 후 저장
+    private Mono<UserRecord> rehashIfNeeded(UserRecord user, String rawPassword) {
+        if (!bCryptCalibration.needsRehash(user.getPassword())) {
+            return Mono.just(user);
+        }
+        return passwordHasher.encodeAsync(rawPassword)
+                .flatMap(encodedPassword -> {
+                    user.updatePassword(encodedPassword);
+                    meterRegistry.counter("auth.bcrypt.rehash").increment();
+                    return userRepository.save(user);
+                });
+    }
+
+    // 쿠키는 컨트롤러에서 응답 헤더로 설정
+    public record SignResult(String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.onboarding.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link LoginThrottle} 의 리액티브 버전. 같은 키, 스크립트, 설정을 쓰므로 두 스택이 같은 한도를 공유한다.
+ * 이벤트 루프를 막지 않도록 Redis 는 리액티브 템플릿으로 호출한다.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveLoginThrottle {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final LoginThrottleSupport support;
+
+    public ReactiveLoginThrottle(
+            ReactiveStringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${security.login-throttle.username-limit:10}") int usernameLimit,
+            @Value("${security.login-throttle.ip-limit:100}") int ipLimit,
+            @Value("${security.login-throttle.window:1m}") Duration window,
+            @Value("${security.login-throttle.local-cache-size:10000}") int localCacheSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.support = new LoginThrottleSupport(meterRegistry, usernameLimit, ipLimit, window, localCacheSize);
+    }
+
+    // 한도를 넘었으면 LoginThrottledException 으로 끝난다. Redis 장애 시에는 통과시킨다
+    public Mono<Void> acquire(String username, String clientIp) {
+        return Mono.defer(() -> {
+            LoginThrottleSupport.Attempt attempt = support.begin(username, clientIp);
+            return redisTemplate.execute(LoginThrottleSupport.ACQUIRE_SCRIPT, attempt.keys(), attempt.args())
+                    .next()
+                    .onErrorResume(e -> {
+                        support.acquireFailed(username, e);
+                        return Mono.empty();
+                    })
+                    .doOnNext(result -> support.complete(attempt, result))
+                    .then();
+        });
+    }
+
+    // 로그인 실패 한 번을 username 한도에 기록한다. 기록에 실패해도 원래 흐름을 바꾸지 않는다
+    public Mono<Void> recordFailure(String username) {
+        return Mono.defer(() -> redisTemplate.execute(LoginThrottleSupport.FAILURE_SCRIPT,
+                        support.failureKeys(username), List.of(support.counterTtl()))
+                .then())
+                .onErrorResume(e -> {
+                    support.recordFailureFailed(username, e);
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.onboarding.common.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증 감사 로그. 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고, 전용 스레드가 모아서 파일에 쓴다.
+ * 버퍼가 가득 차면 호출자를 기다리게 하지 않고 이벤트를 버린 뒤 auth.audit.dropped 로 센다.
+ * fsync 는 이벤트마다가 아니라 flush-interval 마다 한 번 하므로, 비정상 종료 시 그 사이의 이벤트는 잃을 수 있다.
+ * 파일은 max-file-size 를 넘으면 새 파일로 넘어가며, 이름 순서가 기록 순서다 (AuthAuditReplay 로 읽는다).
+ * 성공은 트랜잭션이 커밋된 뒤에 기록하므로, 롤백된 가입이 성공으로 남지 않는다.
+ */
+@Slf4j
+@Component
+public class AuthAuditLog implements DisposableBean {
+
+    static final String FILE_PREFIX = "auth-audit-";
+    static final String FILE_SUFFIX = ".log";
+    private static final int BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final String NOT_COMMITTED = "Transaction not committed";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxFileSize;
+    private final long flushIntervalNanos;
+    private final MpscRingBuffer<AuthEvent> buffer;
+    private final Thread writer;
+    private volatile boolean stopped;
+
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    // 아래는 writer 스레드만 사용
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(64 * 1024);
+    private int batchEvents;
+    private FileChannel channel;
+    private long fileSize;
+    private boolean unsynced;
+    private long lastSyncAt;
+
+    public AuthAuditLog(
+            MeterRegistry meterRegistry,
+            @Value("${auth.audit.enabled:true}") boolean enabled,
+            @Value("${auth.audit.directory:logs/audit}") Path directory,
+            @Value("${auth.audit.buffer-size:65536}") int bufferSize,
+            @Value("${auth.audit.max-file-size:64MB}") DataSize maxFileSize,
+            @Value("${auth.audit.flush-interval:1s}") Duration flushInterval
+    ) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.writer = new Thread(this::run, "auth-audit-writer");
+        this.writer.setDaemon(true);
+
+        this.dropped = Counter.builder("auth.audit.dropped")
+                .description("Audit events discarded because the ring buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("auth.audit.written")
+                .description("Audit events written to the audit file")
+                .register(meterRegistry);
+        this.failed = Counter.builder("auth.audit.failed")
+                .description("Audit events lost to I/O errors")
+                .register(meterRegistry);
+        Gauge.builder("auth.audit.buffer.size", buffer, MpscRingBuffer::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        writer.start();
+        log.info("인증 감사 로그: directory={}, buffer={}", directory.toAbsolutePath(), buffer.capacity());
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋된 뒤에 성공으로 기록하고, 커밋되지 않으면 실패로 기록한다
+    public void success(AuthEvent.Action action, String username, long startedAtNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(action, AuthEvent.Result.SUCCESS, username, null, startedAtNanos);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    publish(action, AuthEvent.Result.SUCCESS, username, null, startedAtNanos);
+                } else {
+                    publish(action, AuthEvent.Result.FAILURE, username, NOT_COMMITTED, startedAtNanos);
+                }
+            }
+        });
+    }
+
+    public void failure(AuthEvent.Action action, String username, String reason, long startedAtNanos) {
+        publish(action, AuthEvent.Result.FAILURE, username, reason, startedAtNanos);
+    }
+
+    public void throttled(AuthEvent.Action action, String username, String reason, long startedAtNanos) {
+        publish(action, AuthEvent.Result.THROTTLED, username, reason, startedAtNanos);
+    }
+
+    private void publish(AuthEvent.Action action, AuthEvent.Result result, String username, String reason,
+                         long startedAtNanos) {
+        if (!enabled) {
+            return;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAtNanos);
+        AuthEvent event = new AuthEvent(System.currentTimeMillis(), action, result, latencyMicros, username, reason);
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        lastSyncAt = System.nanoTime();
+        while (!stopped) {
+            int drained = buffer.drain(this::append, BATCH_SIZE);
+            writeBatch();
+            syncIfDue();
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 시 남은 이벤트까지 기록
+        buffer.drain(this::append, Integer.MAX_VALUE);
+        writeBatch();
+        close();
+    }
+
+    private void append(AuthEvent event) {
+        byte[] bytes = event.toLine().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > batch.remaining()) {
+            writeBatch();
+        }
+        if (bytes.length > batch.remaining()) {
+            failed.increment(); // 배치 버퍼보다 긴 이벤트는 기록하지 않는다
+            return;
+        }
+        batch.put(bytes);
+        batchEvents++;
+    }
+
+    private void writeBatch() {
+        if (batchEvents == 0) {
+            return;
+        }
+        batch.flip();
+        try {
+            if (channel == null) {
+                channel = openNextFile();
+                fileSize = 0;
+            }
+            while (batch.hasRemaining()) {
+                fileSize += channel.write(batch);
+            }
+            written.increment(batchEvents);
+            unsynced = true;
+        } catch (IOException e) {
+            failed.increment(batchEvents);
+            log.error("인증 감사 로그 쓰기 실패: events={}", batchEvents, e);
+            close();
+        } finally {
+            batch.clear();
+            batchEvents = 0;
+        }
+        if (channel != null && fileSize >= maxFileSize) {
+            close(); // 다음 배치에서 새 파일을 연다
+        }
+    }
+
+    private void syncIfDue() {
+        long now = System.nanoTime();
+        if (!unsynced || now - lastSyncAt < flushIntervalNanos) {
+            return;
+        }
+        try {
+            channel.force(false);
+            unsynced = false;
+            lastSyncAt = now;
+        } catch (IOException e) {
+            log.error("인증 감사 로그 fsync 실패", e);
+        }
+    }
+
+    private FileChannel openNextFile() throws IOException {
+        long suffix = System.currentTimeMillis();
+        while (true) {
+            try {
+                return FileChannel.open(directory.resolve(FILE_PREFIX + suffix + FILE_SUFFIX),
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            } catch (FileAlreadyExistsException e) {
+                suffix++;
+            }
+        }
+    }
+
+    private void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (unsynced) {
+                channel.force(false);
+            }
+            channel.close();
+        } catch (IOException e) {
+            log.error("인증 감사 로그 파일 닫기 실패", e);
+        } finally {
+            channel = null;
+            unsynced = false;
+            lastSyncAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        stopped = true;
+        if (writer.isAlive()) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.onboarding.common.audit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 파일을 기록 순서대로 다시 읽는다.
+ * ./gradlew auditReplay --args='logs/audit'                                (디렉터리의 모든 파일)
+ * ./gradlew auditReplay --args='logs/audit/auth-audit-1760000000000.log'  (파일 하나)
+ * 비정상 종료로 마지막 줄이 잘린 경우 그 줄은 건너뛴다.
+ */
+public final class AuthAuditReplay {
+
+    private AuthAuditReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: AuthAuditReplay <directory|file>");
+            System.exit(2);
+        }
+        Map<String, Long> totals = new TreeMap<>();
+        long count = replay(Path.of(args[0]), event -> {
+            System.out.println(Instant.ofEpochMilli(event.timestamp()) + " " + event.action() + " " + event.result()
+                    + " " + event.latencyMicros() + "us username=" + event.username()
+                    + (event.reason() != null ? " reason=" + event.reason() : ""));
+            totals.merge(event.action() + " " + event.result(), 1L, Long::sum);
+        });
+        System.out.println("events=" + count + " " + totals);
+    }
+
+    // 이벤트 수를 반환
+    public static long replay(Path path, Consumer<AuthEvent> consumer) throws IOException {
+        long count = 0;
+        for (Path file : files(path)) {
+            count += replayFile(file, consumer);
+        }
+        return count;
+    }
+
+    static List<Path> files(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> stream = Files.list(path)) {
+            List<Path> files = new ArrayList<>(stream
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(AuthAuditLog.FILE_PREFIX) && name.endsWith(AuthAuditLog.FILE_SUFFIX);
+                    })
+                    .toList());
+            // 파일 이름의 숫자가 생성 시각이므로 이름 순이 기록 순
+            files.sort(null);
+            return files;
+        }
+    }
+
+    private static long replayFile(Path file, Consumer<AuthEvent> consumer) throws IOException {
+        boolean truncated = !endsWithNewline(file);
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            int number = 0;
+            while (line != null) {
+                number++;
+                String next = reader.readLine();
+                if (next == null && truncated) {
+                    System.err.println(file + ":" + number + " 잘린 마지막 줄을 건너뜁니다.");
+                    break;
+                }
+                try {
+                    consumer.accept(AuthEvent.parse(line));
+                    count++;
+                } catch (IllegalArgumentException e) {
+                    System.err.println(file + ":" + number + " 읽을 수 없는 줄을 건너뜁니다: " + e.getMessage());
+                }
+                line = next;
+            }
+        }
+        return count;
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            long size = channel.size();
+            if (size == 0) {
+                return true;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.position(size - 1).read(last);
+            return last.get(0) == '\n';
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.onboarding.common.audit;
+
+/**
+ * 인증 감사 이벤트. 파일에는 탭으로 구분한 한 줄로 기록한다.
+ * timestamp(ms) \t action \t result \t latency(us) \t username \t reason
+ */
+public record AuthEvent(long timestamp, Action action, Result result, long latencyMicros, String username, String reason) {
+
+    private static final char SEPARATOR = '\t';
+    private static final int FIELDS = 6;
+
+    public enum Action {
+        SIGNUP, SIGN
+    }
+
+    // THROTTLED 는 시도 제한으로 인증을 시도하지도 않고 거절한 경우
+    public enum Result {
+        SUCCESS, FAILURE, THROTTLED
+    }
+
+    // 개행까지 포함한 한 줄
+    public String toLine() {
+        StringBuilder builder = new StringBuilder(64)
+                .append(timestamp).append(SEPARATOR)
+                .append(action.name()).append(SEPARATOR)
+                .append(result.name()).append(SEPARATOR)
+                .append(latencyMicros).append(SEPARATOR);
+        escape(builder, username);
+        builder.append(SEPARATOR);
+        escape(builder, reason);
+        return builder.append('\n').toString();
+    }
+
+    // toLine 의 역 (개행 제외). 형식이 맞지 않으면 IllegalArgumentException
+    public static AuthEvent parse(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("필드 수가 맞지 않습니다: " + fields.length);
+        }
+        return new AuthEvent(
+                Long.parseLong(fields[0]),
+                Action.valueOf(fields[1]),
+                Result.valueOf(fields[2]),
+                Long.parseLong(fields[3]),
+                unescape(fields[4]),
+                unescape(fields[5]));
+    }
+
+    // null 은 빈 문자열로 기록. 구분자와 개행은 이스케이프
+    private static void escape(StringBuilder builder, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case '\t' -> builder.append("\\t");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                default -> builder.append(c);
+            }
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 == value.length()) {
+                builder.append(c);
+                continue;
+            }
+            char next = value.charAt(++i);
+            builder.append(switch (next) {
+                case 't' -> '\t';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                default -> next;
+            });
+        }
+        return builder.toString();
+    }
+}
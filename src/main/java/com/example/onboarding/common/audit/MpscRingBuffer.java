@@ -0,0 +1,90 @@
+package com.example.onboarding.common.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 여러 생산자, 단일 소비자용 고정 크기 링 버퍼 (잠금 없음).
+ * 슬롯마다 시퀀스를 두어 생산자는 CAS 한 번으로 자리를 잡고, 가득 차면 기다리지 않고 false 를 반환한다.
+ * 소비(poll, drain)는 한 스레드에서만 호출해야 한다.
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    // 슬롯 i 의 시퀀스: == 생산 위치면 비어 있음, == 생산 위치 + 1 이면 값이 채워짐
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private long consumerIndex; // 소비자 스레드만 사용
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        long index = producerIndex.get();
+        while (true) {
+            int slot = (int) (index & mask);
+            long difference = sequences.get(slot) - index;
+            if (difference == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    elements[slot] = element;
+                    // volatile 쓰기로 값을 소비자에게 공개
+                    sequences.set(slot, index + 1);
+                    return true;
+                }
+                index = producerIndex.get();
+            } else if (difference < 0) {
+                return false; // 한 바퀴 전의 값을 아직 소비하지 않음: 가득 참
+            } else {
+                index = producerIndex.get(); // 다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        int slot = (int) (consumerIndex & mask);
+        if (sequences.get(slot) != consumerIndex + 1) {
+            return null;
+        }
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        // 다음 바퀴의 생산자에게 슬롯을 돌려준다
+        sequences.set(slot, consumerIndex + capacity);
+        consumerIndex++;
+        return element;
+    }
+
+    // 최대 limit 개를 꺼내 처리하고 꺼낸 개수를 반환
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    // 대략적인 크기 (지표용)
+    public int size() {
+        long size = producerIndex.get() - consumerIndex;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.onboarding.common.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter. 비트 설정은 CAS 로 처리하므로 잠금 없이 여러 스레드에서 사용할 수 있다.
+ * mightContain 이 false 면 확실히 없고, true 면 오탐 확률(fpp) 내에서 있을 수 있다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+    private final double targetFpp;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < fpp < 1");
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.targetFpp = fpp;
+        long optimalBits = optimalBitSize(expectedInsertions, fpp);
+        this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.hashFunctions = optimalHashFunctions(expectedInsertions, bitSize);
+    }
+
+    // m = -n ln p / (ln 2)^2
+    public static long optimalBitSize(long expectedInsertions, double fpp) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    // k = m/n ln 2
+    private static int optimalHashFunctions(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            setBit(index(h1 + i * h2));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public long getMemoryBytes() {
+        return bitSize / 8;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public double getTargetFpp() {
+        return targetFpp;
+    }
+
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    // 현재까지 추가된 개수 기준으로 추정한 오탐 확률: (1 - e^(-kn/m))^k
+    public double getEstimatedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions.get() / bitSize), hashFunctions);
+    }
+
+    private long index(int combinedHash) {
+        // Kirsch-Mitzenmacher: g_i = h1 + i*h2, 음수는 비트 반전으로 양수화
+        int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return positive % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // FNV-1a 64 후 splitmix64 finalizer 로 비트를 섞는다
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.onboarding.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 상한과 항목별 만료 시각을 갖는 LRU 캐시.
+ * 접근 순서 LinkedHashMap 은 조회에도 쓰기가 필요하므로, 키 해시로 나눈 세그먼트마다 잠금과 LRU 순서를 따로 둔다.
+ * 서로 다른 세그먼트의 조회/저장은 경합하지 않으며, LRU 순서와 크기 상한은 세그먼트 단위로 지켜진다 (전체로는 근사 LRU).
+ * 통계 카운터는 잠금 없이 누적된다.
+ * synchronized 대신 ReentrantLock 을 사용해 경합 시 가상 스레드가 캐리어 스레드를 점유(pinning)하지 않도록 한다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    // 세그먼트당 최소 항목 수. 작은 캐시는 세그먼트를 나누지 않아 정확한 LRU 로 동작한다
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final int maxSize;
+    private final Segment<K, V>[] segments;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public ExpiringLruCache(int maxSize) {
+        this(maxSize, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    // 세그먼트 수는 maxSegments 이하의 2의 거듭제곱으로, 세그먼트마다 MIN_SEGMENT_SIZE 이상이 되도록 줄인다
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize, int maxSegments) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        int count = Integer.highestOneBit(Math.max(1, Math.min(maxSegments, maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        this.mask = count - 1;
+        // 상한의 합이 정확히 maxSize 가 되도록 나머지를 앞쪽 세그먼트에 하나씩 더한다
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+    }
+
+    public V get(K key, long now) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                segment.entries.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.entries.put(key, new Entry<>(value, expiresAt));
+            if (segment.entries.size() > segment.maxSize) {
+                evictOne(segment, System.currentTimeMillis());
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.entries.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    // 세그먼트를 차례로 잠그므로 조회 중에도 바뀔 수 있는 근사값 (지표용)
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    // 조회가 한 번도 없었으면 NaN
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? Double.NaN : (double) hitCount / total;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    // 세그먼트에서 가장 오래 사용되지 않은 항목을 제거한다 (이미 만료된 항목이었다면 만료로 집계)
+    private void evictOne(Segment<K, V> segment, long now) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = segment.entries.entrySet().iterator();
+        Entry<V> eldest = iterator.next().getValue();
+        iterator.remove();
+        if (eldest.expiresAt <= now) {
+            expirations.increment();
+        } else {
+            evictions.increment();
+        }
+    }
+
+    private static final class Segment<K, V> {
+
+        private final int maxSize;
+        // accessOrder = true : get 시 최근 사용 순으로 재배치
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Segment(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.onboarding.common.cache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 스레드에 묶이지 않는 재사용 객체 풀.
+ * ThreadLocal 캐시는 요청마다 새로 만들어지는 가상 스레드에서는 매번 새 객체를 만들게 되므로 대신 사용한다.
+ * 스레드 ID 로 고른 슬롯에서 잠금 없이 꺼내고 돌려놓으며, 슬롯이 비어 있으면 새로 만들고 슬롯이 차 있으면 버린다.
+ */
+public class StripedPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Supplier<T> factory;
+
+    public StripedPool(Supplier<T> factory) {
+        this(factory, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public StripedPool(Supplier<T> factory, int minSlots) {
+        int size = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.factory = factory;
+    }
+
+    public T borrow() {
+        T value = slots.getAndSet(slot(), null);
+        return value != null ? value : factory.get();
+    }
+
+    // 빌린 스레드와 다른 스레드에서 돌려놓아도 된다
+    public void release(T value) {
+        slots.compareAndSet(slot(), null, value);
+    }
+
+    @SuppressWarnings("deprecation") // Thread.threadId() 는 Java 19 부터
+    private int slot() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+
+/**
+ * Access Token 의 claim 형식 (jwt.access-token.format).
+ * COMPACT 는 짧은 키와 정수 역할 코드를 쓰고, 기본 역할(ROLE_USER)은 생략할 수 있다.
+ * 검증은 항상 두 형식을 모두 받으므로, 모든 노드가 배포된 뒤에 발급 형식을 compact 로 바꾼다.
+ */
+public enum AccessTokenFormat {
+    LEGACY("username", "nickname", "userRole"),
+    COMPACT("u", "n", "r");
+
+    // 역할 claim 이 없는 compact 토큰의 역할
+    public static final UserRole DEFAULT_ROLE = UserRole.ROLE_USER;
+
+    private final String usernameClaim;
+    private final String nicknameClaim;
+    private final String roleClaim;
+
+    AccessTokenFormat(String usernameClaim, String nicknameClaim, String roleClaim) {
+        this.usernameClaim = usernameClaim;
+        this.nicknameClaim = nicknameClaim;
+        this.roleClaim = roleClaim;
+    }
+
+    public String usernameClaim() {
+        return usernameClaim;
+    }
+
+    public String nicknameClaim() {
+        return nicknameClaim;
+    }
+
+    public String roleClaim() {
+        return roleClaim;
+    }
+
+    // compact 역할 코드를 VerifiedToken 의 역할 이름으로. 없으면 기본 역할, 알 수 없는 코드면 InvalidRequestException
+    public static String roleName(Integer code) {
+        return code == null ? DEFAULT_ROLE.name() : UserRole.ofCode(code).name();
+    }
+}
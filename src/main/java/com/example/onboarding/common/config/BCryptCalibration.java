@@ -0,0 +1,55 @@
+package com.example.onboarding.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 측정한 BCrypt 비용(strength)과 측정값.
+ * Micrometer 게이지로 노출된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BCryptCalibration implements MeterBinder {
+
+    private final int strength;
+    private final double hashMillis;
+    private final long latencyBudgetMillis;
+    private final int minStrength;
+
+    // 저장된 해시의 비용이 현재 설정보다 낮을 때만 재해시 대상 ($2a$10$... 형식)
+    // 노드마다 측정한 비용이 다를 수 있으므로, 더 높은 비용의 해시를 낮추면 노드를 오갈 때마다 재해시가 반복된다
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return false;
+        }
+        return (tens - '0') * 10 + (ones - '0') < strength;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("auth.bcrypt.strength", this, BCryptCalibration::getStrength)
+                .description("BCrypt cost factor chosen at startup")
+                .register(registry);
+        Gauge.builder("auth.bcrypt.min.strength", this, BCryptCalibration::getMinStrength)
+                .description("Lowest BCrypt cost factor allowed")
+                .register(registry);
+        Gauge.builder("auth.bcrypt.calibration.hash", this, BCryptCalibration::getHashMillis)
+                .description("Measured hash time at the chosen cost factor")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("auth.bcrypt.calibration.budget", this, BCryptCalibration::getLatencyBudgetMillis)
+                .description("Hash latency budget used for calibration")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
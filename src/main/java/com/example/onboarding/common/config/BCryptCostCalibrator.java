@@ -0,0 +1,60 @@
+package com.example.onboarding.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * 현재 하드웨어에서 해시 시간이 예산을 넘지 않는 가장 큰 BCrypt 비용을 찾는다.
+ * 보안을 위해 minStrength 아래로는 내려가지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibration123!";
+    private static final int SAMPLES = 3;
+
+    private final int minStrength;
+    private final int maxStrength;
+
+    public BCryptCalibration calibrate(long latencyBudgetMillis) {
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD); // JIT 워밍업
+
+        int chosen = minStrength;
+        double chosenMillis = measure(minStrength);
+        for (int strength = minStrength + 1; strength <= maxStrength; strength++) {
+            // 비용이 1 오르면 해시 시간은 약 2배이므로, 예산을 넘을 것이 확실하면 측정하지 않는다
+            if (chosenMillis * 2 > latencyBudgetMillis) {
+                break;
+            }
+            double millis = measure(strength);
+            if (millis > latencyBudgetMillis) {
+                break;
+            }
+            chosen = strength;
+            chosenMillis = millis;
+        }
+
+        if (chosenMillis > latencyBudgetMillis) {
+            log.warn("BCrypt 최소 비용({})의 해시 시간 {}ms 가 예산 {}ms 를 초과합니다.", chosen, chosenMillis, latencyBudgetMillis);
+        }
+        log.info("BCrypt 비용 보정 완료: strength={}, hash={}ms, budget={}ms", chosen, chosenMillis, latencyBudgetMillis);
+        return new BCryptCalibration(chosen, chosenMillis, latencyBudgetMillis, minStrength);
+    }
+
+    // 여러 번 측정한 중앙값 (ms)
+    private double measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2] / 1_000_000.0;
+    }
+}
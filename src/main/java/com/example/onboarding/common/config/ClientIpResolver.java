@@ -0,0 +1,87 @@
+package com.example.onboarding.common.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 로드밸런서 뒤에서 실제 클라이언트 IP 를 구한다.
+ * 직접 연결한 주소가 신뢰하는 프록시일 때만 X-Forwarded-For 를 읽고, 오른쪽(가장 가까운 프록시가 붙인 값)부터
+ * 신뢰하는 프록시를 건너뛰어 처음 만나는 주소를 클라이언트로 본다. 그보다 왼쪽 값은 클라이언트가 위조할 수 있으므로 쓰지 않는다.
+ * 서블릿과 리액티브 스택이 같은 규칙을 쓰도록 두 요청 타입을 모두 받는다.
+ */
+@Component
+public class ClientIpResolver {
+
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String UNKNOWN_ADDRESS = "unknown";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${security.trusted-proxies:}") String[] trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies)
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        return resolve(request.getRemoteAddr(), request.getHeader(FORWARDED_FOR_HEADER));
+    }
+
+    public String resolve(ServerHttpRequest request) {
+        return resolve(remoteAddr(request.getRemoteAddress()), request.getHeaders().getFirst(FORWARDED_FOR_HEADER));
+    }
+
+    private String resolve(String remoteAddr, String forwardedFor) {
+        if (forwardedFor == null || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String client = remoteAddr;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    // 역방향 DNS 조회 없이 IP 문자열로
+    private static String remoteAddr(InetSocketAddress remoteAddress) {
+        if (remoteAddress == null) {
+            return UNKNOWN_ADDRESS;
+        }
+        if (remoteAddress.getAddress() == null) {
+            return remoteAddress.getHostString();
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+
+    private boolean isTrusted(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // IP 형식이 아닌 값(예: "unknown")은 신뢰하지 않는다
+                return false;
+            }
+        }
+        return false;
+    }
+}
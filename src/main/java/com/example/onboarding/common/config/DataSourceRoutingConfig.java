@@ -0,0 +1,87 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.datasource.Replica;
+import com.example.onboarding.common.datasource.ReplicaLagMonitor;
+import com.example.onboarding.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * datasource.routing.enabled=true 이면 읽기 전용 트랜잭션을 datasource.routing.replica-urls 의 복제본으로 보낸다.
+ * 꺼져 있으면 이 설정은 없고 Spring Boot 기본 DataSource 하나를 사용한다.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본 커넥션 풀은 라우팅 DataSource 가 소유하고 종료 시 닫는다
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${datasource.routing.replica-username:${spring.datasource.username}}") String username,
+            @Value("${datasource.routing.replica-password:${spring.datasource.password}}") String password,
+            @Value("${datasource.routing.replica-pool-size:10}") int poolSize,
+            @Value("${datasource.routing.selection:round-robin}") String selection,
+            @Value("${datasource.routing.max-lag:2s}") Duration maxLag
+    ) {
+        List<Replica> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + (i + 1));
+            dataSource.setJdbcUrl(replicaUrls.get(i).trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setDriverClassName(properties.getDriverClassName());
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setReadOnly(true);
+            replicas.add(new Replica(dataSource.getPoolName(), dataSource));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                ReplicaRoutingDataSource.Selection.valueOf(selection.replace('-', '_').toUpperCase(Locale.ROOT)),
+                maxLag, meterRegistry);
+    }
+
+    @Bean(initMethod = "start")
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.routing.lag-check-interval:1s}") Duration interval,
+            @Value("${datasource.routing.allow-unreplicated-replica:false}") boolean allowUnreplicated
+    ) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource.getReplicas(), interval, allowUnreplicated, meterRegistry);
+    }
+
+    // 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로, 첫 쿼리까지 커넥션 획득을 미룬다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.onboarding.common.config;
+
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+
+/**
+ * 우리가 직접 발급한 HS256 토큰 전용 검증기. Mac 을 풀에서 꺼내 재사용하고 서명은 상수 시간으로 비교한다.
+ */
+public class HmacJwtVerifier extends JwsFastVerifier<Mac> {
+
+    public HmacJwtVerifier(byte[] secret) {
+        super(JwtAlgorithm.HS256, () -> JwtAlgorithm.HS256.newMac(secret));
+    }
+
+    @Override
+    protected boolean verifySignature(Mac mac, byte[] signingInput, int length, byte[] signature, byte[] scratch) {
+        mac.update(signingInput, 0, length);
+        try {
+            mac.doFinal(scratch, 0);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+        return constantTimeEquals(scratch, signature, JwtAlgorithm.HS256.signatureLength());
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] actual, int length) {
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= expected[i] ^ actual[i];
+        }
+        return diff == 0;
+    }
+}
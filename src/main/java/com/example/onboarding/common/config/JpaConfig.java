@@ -0,0 +1,12 @@
+package com.example.onboarding.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+// 리액티브 프로필에서는 JPA 자동 구성을 제외하므로 Auditing 도 서블릿 스택에서만 켠다
+@Configuration
+@Profile("!reactive")
+@EnableJpaAuditing
+public class JpaConfig {
+}
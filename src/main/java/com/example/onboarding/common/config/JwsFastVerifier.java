@@ -0,0 +1,287 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.cache.StripedPool;
+import com.example.onboarding.user.enums.UserRole;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * 우리가 직접 발급한 토큰 전용 검증기의 공통 부분. 알고리즘별 서명 검증만 하위 클래스가 구현한다.
+ * 서명 객체와 버퍼를 풀에서 꺼내 재사용하고, claims 를 Map 으로 만들지 않고 필요한 필드만 바로 읽는다.
+ * 형식이 예상과 조금이라도 다르거나 검증에 실패하면 null 을 반환하며,
+ * 호출 측(JwtUtil)이 jjwt 로 다시 검증해 동일한 결과와 예외를 보장한다.
+ */
+public abstract class JwsFastVerifier<P> {
+
+    private static final int[] BASE64_URL = new int[128];
+    private static final UserRole[] ROLES = UserRole.values();
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    // 중복 키가 있는 JSON 은 fast path 에서 수락하지 않는다
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+            .enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
+            .build();
+    private final JwtAlgorithm algorithm;
+    private final StripedPool<State<P>> states;
+
+    protected JwsFastVerifier(JwtAlgorithm algorithm, Supplier<P> primitives) {
+        this.algorithm = algorithm;
+        this.states = new StripedPool<>(() -> new State<>(primitives.get()));
+    }
+
+    public JwtAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public VerifiedToken verify(String token, long now) {
+        State<P> s = states.borrow();
+        try {
+            return verify(token, now, s);
+        } finally {
+            states.release(s);
+        }
+    }
+
+    // signingInput[0, length) 에 대한 signature[0, signatureLength) 검증. scratch 는 signatureLength 이상의 작업 버퍼
+    protected abstract boolean verifySignature(P primitive, byte[] signingInput, int length, byte[] signature,
+                                               byte[] scratch);
+
+    // 서명은 맞지만 만료된 토큰. 기본은 jjwt 가 ExpiredJwtException 을 던지도록 null
+    protected VerifiedToken expired(VerifiedToken token) {
+        return null;
+    }
+
+    private VerifiedToken verify(String token, long now, State<P> s) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot == token.length() - 1
+                || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        // 1. 서명: header.payload 의 ASCII 바이트에 대한 서명 검증
+        s.signature = s.ensure(s.signature, token.length() - secondDot - 1);
+        if (decode(token, secondDot + 1, token.length(), s.signature) != algorithm.signatureLength()) {
+            return null;
+        }
+        s.signingInput = s.ensureCapacity(s.signingInput, secondDot);
+        byte[] signingInput = s.signingInput;
+        for (int i = 0; i < secondDot; i++) {
+            signingInput[i] = (byte) token.charAt(i); // base64url 과 '.' 만 포함되므로 ASCII
+        }
+        if (!verifySignature(s.primitive, signingInput, secondDot, s.signature, s.scratch)) {
+            return null;
+        }
+
+        // 2. 헤더: alg 가 이 검증기의 알고리즘이고 그 외에는 알려진 파라미터만 있어야 함 (kid 는 JwtKeyRing 이 확인)
+        s.header = s.ensure(s.header, firstDot);
+        int headerLength = decode(token, 0, firstDot, s.header);
+        if (headerLength < 0 || !isExpectedHeader(s.header, headerLength)) {
+            return null;
+        }
+
+        // 3. payload: 필요한 claim 만 추출하고 만료 여부 확인
+        s.payload = s.ensure(s.payload, secondDot - firstDot - 1);
+        int payloadLength = decode(token, firstDot + 1, secondDot, s.payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        VerifiedToken verified = readClaims(s.payload, payloadLength);
+        if (verified == null) {
+            return null;
+        }
+        if (now > verified.getExpiration()) {
+            return expired(verified);
+        }
+        return verified;
+    }
+
+    private boolean isExpectedHeader(byte[] buffer, int length) {
+        try (JsonParser parser = jsonFactory.createParser(buffer, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            boolean expected = false;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "alg" -> expected = value == JsonToken.VALUE_STRING && algorithm.joseName().equals(parser.getText());
+                    case "typ", "kid" -> parser.skipChildren();
+                    default -> {
+                        return false; // zip 등 jjwt 가 별도로 처리하는 파라미터
+                    }
+                }
+            }
+            return expected && token == JsonToken.END_OBJECT && parser.nextToken() == null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private VerifiedToken readClaims(byte[] buffer, int length) {
+        try (JsonParser parser = jsonFactory.createParser(buffer, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String subject = null;
+            String sessionId = null;
+            // 두 형식의 claim 을 따로 모은 뒤, VerifiedToken.from 과 같이 "u" 가 있는지로 형식을 정하고 다른 형식의 claim 은 버린다
+            String legacyUsername = null;
+            String legacyNickname = null;
+            String legacyRole = null;
+            String compactUsername = null;
+            String compactNickname = null;
+            String compactRole = null;
+            boolean compact = false;
+            long expiration = -1;
+            long issuedAt = 0;
+
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    // legacy("username", "nickname", "userRole") 와 compact("u", "n", "r") 형식 모두 읽는다.
+                    // 타입이 다르면 쓰지 않을 claim 이라도 jjwt 경로로 넘긴다
+                    case "sub", "username", "nickname", "userRole", "u", "n", "sid" -> {
+                        if (value != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        String text = parser.getText();
+                        switch (name) {
+                            case "sub" -> subject = text;
+                            case "username" -> legacyUsername = text;
+                            case "nickname" -> legacyNickname = text;
+                            case "userRole" -> legacyRole = text;
+                            case "sid" -> sessionId = text;
+                            case "u" -> {
+                                compactUsername = text;
+                                compact = true;
+                            }
+                            default -> compactNickname = text;
+                        }
+                    }
+                    case "r" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) {
+                            return null;
+                        }
+                        compactRole = compactRoleName(parser.getLongValue());
+                        if (compactRole == null) {
+                            return null;
+                        }
+                    }
+                    case "exp" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) {
+                            return null;
+                        }
+                        long seconds = parser.getLongValue();
+                        if (seconds < 0 || seconds > Long.MAX_VALUE / 1000) {
+                            return null;
+                        }
+                        expiration = seconds * 1000;
+                    }
+                    case "iat" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) {
+                            return null;
+                        }
+                        long seconds = parser.getLongValue();
+                        if (seconds < 0 || seconds > Long.MAX_VALUE / 1000) {
+                            return null;
+                        }
+                        issuedAt = seconds * 1000;
+                    }
+                    case "nbf" -> {
+                        return null; // 발급하지 않는 claim 은 jjwt 에 맡김
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT || parser.nextToken() != null || expiration < 0) {
+                return null;
+            }
+            if (compact) {
+                return new VerifiedToken(subject, compactUsername, compactNickname,
+                        compactRole != null ? compactRole : AccessTokenFormat.DEFAULT_ROLE.name(),
+                        expiration, issuedAt, sessionId);
+            }
+            return new VerifiedToken(subject, legacyUsername, legacyNickname, legacyRole, expiration, issuedAt, sessionId);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 알 수 없는 코드는 null (jjwt 경로에서 VerifiedToken.from 이 예외를 던진다)
+    private static String compactRoleName(long code) {
+        for (UserRole role : ROLES) {
+            if (role.getCode() == code) {
+                return role.name();
+            }
+        }
+        return null;
+    }
+
+    // 패딩 없는 base64url 을 out 에 디코딩하고 길이를 반환. 형식이 어긋나면 -1
+    static int decode(String source, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+        int written = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[written++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        // 남은 비트가 0 이 아닌 비정규 인코딩은 수락하지 않음
+        return bits == 0 ? written : -1;
+    }
+
+    private static final class State<P> {
+
+        private final P primitive;
+        private final byte[] scratch = new byte[64];
+        private byte[] signingInput = new byte[512];
+        private byte[] header = new byte[64];
+        private byte[] payload = new byte[256];
+        private byte[] signature = new byte[96];
+
+        private State(P primitive) {
+            this.primitive = primitive;
+        }
+
+        // base64url 문자열 길이로부터 디코딩 결과를 담을 수 있는 버퍼 확보
+        private byte[] ensure(byte[] buffer, int encodedLength) {
+            return ensureCapacity(buffer, encodedLength * 3 / 4 + 3);
+        }
+
+        private byte[] ensureCapacity(byte[] buffer, int capacity) {
+            return buffer.length >= capacity ? buffer : new byte[Math.max(capacity, buffer.length * 2)];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.onboarding.common.config;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * 토큰 서명 알고리즘 (jwt.signing.algorithm).
+ * ES256 은 JCA 의 P1363 형식(r||s)으로 서명해 JWS 서명 형식 그대로 사용하고, EdDSA 는 Ed25519 다.
+ */
+public enum JwtAlgorithm {
+    HS256("HS256", "HmacSHA256", null, 32),
+    ES256("ES256", "SHA256withECDSAinP1363Format", "EC", 64),
+    EDDSA("EdDSA", "Ed25519", "Ed25519", 64);
+
+    private final String joseName;
+    private final String jcaName;
+    private final String keyAlgorithm; // 비대칭 키의 KeyFactory 알고리즘
+    private final int signatureLength;
+
+    JwtAlgorithm(String joseName, String jcaName, String keyAlgorithm, int signatureLength) {
+        this.joseName = joseName;
+        this.jcaName = jcaName;
+        this.keyAlgorithm = keyAlgorithm;
+        this.signatureLength = signatureLength;
+    }
+
+    public static JwtAlgorithm ofJoseName(String joseName) {
+        for (JwtAlgorithm algorithm : values()) {
+            if (algorithm.joseName.equals(joseName)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다: " + joseName);
+    }
+
+    public String joseName() {
+        return joseName;
+    }
+
+    public int signatureLength() {
+        return signatureLength;
+    }
+
+    public boolean isSymmetric() {
+        return this == HS256;
+    }
+
+    Mac newMac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(jcaName);
+            mac.init(new SecretKeySpec(secret, jcaName));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 서명 객체는 sign/verify 후 init 직후 상태로 돌아가므로 한 번만 초기화해 재사용한다
+    Signature newSigner(PrivateKey privateKey) {
+        try {
+            Signature signature = Signature.getInstance(jcaName);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Signature newVerifier(PublicKey publicKey) {
+        try {
+            Signature signature = Signature.getInstance(jcaName);
+            signature.initVerify(publicKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // PKCS#8 DER 의 base64
+    PrivateKey privateKey(String base64) {
+        PrivateKey key;
+        try {
+            key = KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException(joseName + " 개인 키를 읽을 수 없습니다.", e);
+        }
+        requireCurve(key);
+        return key;
+    }
+
+    // X.509 SubjectPublicKeyInfo DER 의 base64
+    PublicKey publicKey(String base64) {
+        PublicKey key;
+        try {
+            key = KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException(joseName + " 공개 키를 읽을 수 없습니다.", e);
+        }
+        requireCurve(key);
+        return key;
+    }
+
+    // ES256 은 P-256 곡선만 허용. 다른 곡선의 키는 서명 길이와 JWKS 의 crv 가 맞지 않는다
+    private void requireCurve(Key key) {
+        if (this != ES256) {
+            return;
+        }
+        if (!(key instanceof ECKey ecKey) || !isP256(ecKey.getParams())) {
+            throw new IllegalStateException("ES256 키는 P-256(secp256r1) 곡선이어야 합니다.");
+        }
+    }
+
+    static boolean isP256(ECParameterSpec params) {
+        ECParameterSpec p256 = P256Holder.SPEC;
+        return params != null
+                && params.getCurve().equals(p256.getCurve())
+                && params.getGenerator().equals(p256.getGenerator())
+                && params.getOrder().equals(p256.getOrder())
+                && params.getCofactor() == p256.getCofactor();
+    }
+
+    // enum 상수 초기화 이후에 만들어지도록 별도 클래스에 둔다
+    private static final class P256Holder {
+
+        private static final ECParameterSpec SPEC;
+
+        static {
+            try {
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec("secp256r1"));
+                SPEC = parameters.getParameterSpec(ECParameterSpec.class);
+            } catch (GeneralSecurityException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+}
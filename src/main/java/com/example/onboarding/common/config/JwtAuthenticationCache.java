@@ -0,0 +1,85 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.cache.ExpiringLruCache;
+import com.example.onboarding.common.cache.StripedPool;
+import com.example.onboarding.common.dto.AuthUser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 서명 검증을 마친 토큰의 AuthUser 와 발급 시각을 토큰 만료 시각까지 보관하는 캐시.
+ * 원문 토큰 대신 SHA-256 다이제스트를 키로 사용한다.
+ * 적중률과 제거 건수는 UserCredentialCache 와 같은 형태의 지표(auth.jwt.cache.*)로 노출된다.
+ */
+@Component
+public class JwtAuthenticationCache implements MeterBinder {
+
+    private static final StripedPool<MessageDigest> SHA_256 = new StripedPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final ExpiringLruCache<String, Entry> cache;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    // 32바이트 다이제스트를 Latin-1 문자열로 감싸면 1바이트당 1문자로 저장되고 equals/hashCode 를 그대로 쓸 수 있다
+    public String digest(String token) {
+        MessageDigest sha256 = SHA_256.borrow();
+        try {
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return new String(hash, StandardCharsets.ISO_8859_1);
+        } finally {
+            SHA_256.release(sha256);
+        }
+    }
+
+    public Entry get(String digest) {
+        return cache.get(digest, System.currentTimeMillis());
+    }
+
+    public void put(String digest, Entry entry, long expiresAt) {
+        cache.put(digest, entry, expiresAt);
+    }
+
+    public ExpiringLruCache<String, Entry> getCache() {
+        return cache;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("auth.jwt.cache.requests", cache, ExpiringLruCache::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.requests", cache, ExpiringLruCache::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.evictions", cache, ExpiringLruCache::getEvictionCount)
+                .tag("cause", "size")
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.evictions", cache, ExpiringLruCache::getExpirationCount)
+                .tag("cause", "expired")
+                .register(registry);
+        Gauge.builder("auth.jwt.cache.hit.ratio", cache, ExpiringLruCache::getHitRatio)
+                .register(registry);
+        Gauge.builder("auth.jwt.cache.size", cache, ExpiringLruCache::size)
+                .register(registry);
+    }
+
+    public record Entry(AuthUser authUser, long issuedAt) {
+    }
+}
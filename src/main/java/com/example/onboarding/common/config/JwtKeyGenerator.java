@@ -0,0 +1,47 @@
+package com.example.onboarding.common.config;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+/**
+ * 서명 키 쌍을 만들어 설정 값 형태로 출력한다.
+ * ./gradlew jwtKeygen --args='ES256 2026-10'   (알고리즘, kid)
+ * private-key 는 비밀 저장소에만 두고, public-key 와 verification-keys 항목은 모든 노드에 배포한다.
+ */
+public final class JwtKeyGenerator {
+
+    private JwtKeyGenerator() {
+    }
+
+    public static void main(String[] args) throws GeneralSecurityException {
+        if (args.length != 2) {
+            System.err.println("usage: JwtKeyGenerator <ES256|EdDSA> <kid>");
+            System.exit(2);
+        }
+        JwtAlgorithm algorithm = JwtAlgorithm.ofJoseName(args[0]);
+        KeyPair keyPair = generate(algorithm);
+        Base64.Encoder base64 = Base64.getEncoder();
+        String publicKey = base64.encodeToString(keyPair.getPublic().getEncoded());
+        System.out.println("jwt.signing.algorithm=" + algorithm.joseName());
+        System.out.println("jwt.signing.kid=" + args[1]);
+        System.out.println("jwt.signing.private-key=" + base64.encodeToString(keyPair.getPrivate().getEncoded()));
+        System.out.println("jwt.signing.public-key=" + publicKey);
+        System.out.println("# 교체 전에 미리 게시하거나 교체 후 남겨 둘 때의 verification-keys 항목");
+        System.out.println(args[1] + ":" + algorithm.joseName() + ":" + publicKey);
+    }
+
+    static KeyPair generate(JwtAlgorithm algorithm) throws GeneralSecurityException {
+        return switch (algorithm) {
+            case ES256 -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                yield generator.generateKeyPair();
+            }
+            case EDDSA -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            case HS256 -> throw new IllegalArgumentException("HS256 은 jwt.secret.key 를 사용합니다.");
+        };
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.cache.StripedPool;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 키와 검증 키 모음. 시작 시 한 번 읽어 kid 로 색인한 검증기 맵을 만들어 두고, 요청마다 키를 해석하지 않는다.
+ * - 발급: jwt.signing.algorithm / kid 의 키 하나로 서명한다. HS256 은 jwt.secret.key 를 사용한다.
+ * - 검증: kid 가 없는 토큰은 jwt.secret.key 의 HS256(이전 발급분), kid 가 있으면 같은 kid 의 키로만 검증한다.
+ *   kid 없는 토큰은 jwt.signing.accept-legacy-hs256=false 로 더 이상 받지 않을 수 있다.
+ * - 교체: 새 공개 키를 jwt.signing.verification-keys 에 먼저 추가해 JWKS 에 게시한 뒤 발급 키를 바꾸고,
+ *   이전 키는 발급된 토큰이 모두 만료될 때까지 verification-keys 에 남겨 둔다.
+ */
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JwtAlgorithm signingAlgorithm;
+    private final String encodedHeader;
+    private final StripedPool<Mac> macs;
+    private final StripedPool<Signature> signers;
+    private final VerificationKey legacy;
+    private final boolean acceptLegacy;
+    private final Map<String, VerificationKey> keys;
+    private final String jwks;
+    private final String jwksEtag;
+
+    /**
+     * @param verificationKeys "kid:알고리즘:키" 목록 (쉼표 구분). 키는 HS256 이면 비밀 키, 그 외에는 X.509 공개 키의 base64
+     * @param acceptLegacy     kid 없는 HS256 토큰을 받을지 여부
+     */
+    public JwtKeyRing(byte[] legacySecret, JwtAlgorithm signingAlgorithm, String signingKid, String privateKey,
+                      String publicKey, String verificationKeys, boolean acceptLegacy) {
+        this.signingAlgorithm = signingAlgorithm;
+        this.acceptLegacy = acceptLegacy;
+        this.legacy = new VerificationKey(null, JwtAlgorithm.HS256, Keys.hmacShaKeyFor(legacySecret),
+                new HmacJwtVerifier(legacySecret));
+        String kid = StringUtils.hasText(signingKid) ? signingKid.trim() : null;
+
+        Map<String, VerificationKey> keys = new HashMap<>();
+        if (signingAlgorithm.isSymmetric()) {
+            this.macs = new StripedPool<>(() -> JwtAlgorithm.HS256.newMac(legacySecret));
+            this.signers = null;
+            if (kid != null) {
+                keys.put(kid, new VerificationKey(kid, JwtAlgorithm.HS256, legacy.key(), legacy.verifier()));
+            }
+        } else {
+            if (kid == null || !StringUtils.hasText(privateKey) || !StringUtils.hasText(publicKey)) {
+                throw new IllegalStateException(signingAlgorithm.joseName()
+                        + " 서명에는 jwt.signing.kid, private-key, public-key 가 모두 필요합니다.");
+            }
+            PrivateKey signingKey = signingAlgorithm.privateKey(privateKey.trim());
+            this.macs = null;
+            this.signers = new StripedPool<>(() -> signingAlgorithm.newSigner(signingKey));
+            keys.put(kid, publicKey(kid, signingAlgorithm, publicKey.trim()));
+        }
+        for (String entry : StringUtils.commaDelimitedListToStringArray(verificationKeys)) {
+            if (!StringUtils.hasText(entry)) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":", 3);
+            if (parts.length != 3) {
+                throw new IllegalStateException("jwt.signing.verification-keys 형식은 kid:알고리즘:키 입니다: " + entry);
+            }
+            JwtAlgorithm algorithm = JwtAlgorithm.ofJoseName(parts[1]);
+            VerificationKey key = algorithm.isSymmetric()
+                    ? hmacKey(parts[0], Base64.getDecoder().decode(parts[2]))
+                    : publicKey(parts[0], algorithm, parts[2]);
+            if (keys.putIfAbsent(parts[0], key) != null) {
+                throw new IllegalStateException("kid 가 중복되었습니다: " + parts[0]);
+            }
+        }
+        if (!acceptLegacy && keys.isEmpty()) {
+            throw new IllegalStateException("jwt.signing.accept-legacy-hs256=false 이면 jwt.signing.kid 를 지정해야 합니다.");
+        }
+        this.keys = Map.copyOf(keys);
+        this.encodedHeader = BASE64_URL.encodeToString(header(signingAlgorithm, kid)) + ".";
+        this.jwks = jwks(this.keys.values());
+        this.jwksEtag = "\"" + DigestUtils.md5DigestAsHex(jwks.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public JwtAlgorithm getSigningAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    // "base64url(header)." (서명 대상의 앞부분)
+    public String getEncodedHeader() {
+        return encodedHeader;
+    }
+
+    public byte[] sign(byte[] signingInput) {
+        try {
+            if (macs != null) {
+                Mac mac = macs.borrow();
+                try {
+                    return mac.doFinal(signingInput);
+                } finally {
+                    macs.release(mac);
+                }
+            }
+            Signature signer = signers.borrow();
+            try {
+                signer.update(signingInput);
+                return signer.sign();
+            } finally {
+                signers.release(signer);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // fast path. kid 를 쓰지 않는 기본 설정에서는 헤더를 따로 읽지 않는다
+    public VerifiedToken verify(String token, long now) {
+        VerificationKey key = keys.isEmpty() ? legacy : find(kidOf(token));
+        return key != null ? key.verifier().verify(token, now) : null;
+    }
+
+    // jjwt 경로의 키 선택. kid 가 있으면 헤더의 alg 가 그 키의 알고리즘과 같아야 한다 (kid 없는 토큰은 이전과 같이 jjwt 가 판단)
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        VerificationKey key = find(header.getKeyId());
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + header.getKeyId());
+        }
+        if (key.algorithm() == JwtAlgorithm.EDDSA) {
+            throw new UnsupportedJwtException("EdDSA tokens are verified by SignatureJwtVerifier only");
+        }
+        if (key != legacy && !key.algorithm().joseName().equals(header.getAlgorithm())) {
+            throw new SignatureException("JWT algorithm does not match the key: " + header.getAlgorithm());
+        }
+        return key.key();
+    }
+
+    public String getJwks() {
+        return jwks;
+    }
+
+    public String getJwksEtag() {
+        return jwksEtag;
+    }
+
+    // kid 가 없으면 이전 HS256 키. 더 이상 받지 않도록 설정했다면 null (모르는 kid 와 같이 거부)
+    private VerificationKey find(String kid) {
+        if (kid == null) {
+            return acceptLegacy ? legacy : null;
+        }
+        return keys.get(kid);
+    }
+
+    // 헤더의 kid. 없거나 읽을 수 없으면 null
+    static String kidOf(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try (JsonParser parser = JSON.createParser(Base64.getUrlDecoder().decode(token.substring(0, dot)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("kid".equals(name)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static VerificationKey hmacKey(String kid, byte[] secret) {
+        return new VerificationKey(kid, JwtAlgorithm.HS256, Keys.hmacShaKeyFor(secret), new HmacJwtVerifier(secret));
+    }
+
+    private static VerificationKey publicKey(String kid, JwtAlgorithm algorithm, String base64) {
+        PublicKey key = algorithm.publicKey(base64);
+        return new VerificationKey(kid, algorithm, key, new SignatureJwtVerifier(algorithm, key));
+    }
+
+    private static byte[] header(JwtAlgorithm algorithm, String kid) {
+        Map<String, String> header = new LinkedHashMap<>();
+        header.put("alg", algorithm.joseName());
+        if (kid != null) {
+            header.put("kid", kid);
+        }
+        try {
+            return new ObjectMapper().writeValueAsBytes(header);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 공개 키만 게시한다 (HS256 키는 제외)
+    private static String jwks(Iterable<VerificationKey> keys) {
+        List<Map<String, String>> jwks = new ArrayList<>();
+        for (VerificationKey key : keys) {
+            if (key.algorithm().isSymmetric()) {
+                continue;
+            }
+            Map<String, String> jwk = new LinkedHashMap<>();
+            if (key.key() instanceof ECPublicKey ecKey) {
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", BASE64_URL.encodeToString(unsigned(ecKey.getW().getAffineX(), 32)));
+                jwk.put("y", BASE64_URL.encodeToString(unsigned(ecKey.getW().getAffineY(), 32)));
+            } else {
+                // Ed25519 X.509 인코딩의 마지막 32 바이트가 공개 키 자체
+                byte[] encoded = key.key().getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", BASE64_URL.encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+            }
+            jwk.put("kid", key.kid());
+            jwk.put("alg", key.algorithm().joseName());
+            jwk.put("use", "sig");
+            jwks.add(jwk);
+        }
+        jwks.sort((a, b) -> a.get("kid").compareTo(b.get("kid")));
+        try {
+            return new ObjectMapper().writeValueAsString(Map.of("keys", jwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] padded = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, padded, length - copy, copy);
+        return padded;
+    }
+
+    private record VerificationKey(String kid, JwtAlgorithm algorithm, Key key, JwsFastVerifier<?> verifier) {
+    }
+}
@@ -2,30 +2,63 @@ package com.example.onboarding.common.config;
 
 import com.example.onboarding.common.dto.AuthUser;
 import com.example.onboarding.user.enums.UserRole;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@Profile("!reactive")
 public class JwtSecurityFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    public JwtSecurityFilter(
+            JwtUtil jwtUtil,
+            JwtAuthenticationCache jwtAuthenticationCache,
+            TokenRevocationList tokenRevocationList,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.tokenRevocationList = tokenRevocationList;
+        // 요청마다 레지스트리를 조회하지 않도록 미리 등록
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("auth.filter")
+                    .description("Time spent authenticating a request in JwtSecurityFilter")
+                    .tag("outcome", outcome.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    // permitAll 경로는 토큰을 꺼내지도 않음 (만료된 Access Token 쿠키가 함께 와도 로그인/재발급은 진행되어야 한다)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicPaths.matches(request.getServletPath());
+    }
 
     @Override
     protected void doFilterInternal(
@@ -33,38 +66,89 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse httpResponse,
             @NonNull FilterChain chain
     ) throws ServletException, IOException {
-        String authorizationHeader = jwtUtil.getTokenFromRequest(httpRequest);
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            String jwt = jwtUtil.substringToken(authorizationHeader);
-            try {
-                Claims claims = jwtUtil.extractClaims(jwt);
-                String userId = claims.getSubject();
-                String username = claims.get("username", String.class);
-                String nickname = claims.get("nickname", String.class);
-                UserRole userRole = UserRole.of(claims.get("userRole", String.class));
-
-                if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    AuthUser authUser = AuthUser.from(Long.parseLong(userId), username, nickname, userRole);
-
-                    JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(authUser);
-                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpRequest));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        long startedAt = System.nanoTime();
+        Outcome outcome = authenticate(httpRequest, httpResponse);
+        timers.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (outcome == Outcome.REVOKED) {
+            return;
+        }
+        chain.doFilter(httpRequest, httpResponse);
+    }
+
+    private Outcome authenticate(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        // Authorization 헤더 우선, 없으면 쿠키
+        String jwt = jwtUtil.resolveToken(httpRequest);
+        if (jwt == null) {
+            return Outcome.ABSENT;
+        }
+        try {
+            String digest = jwtAuthenticationCache.digest(jwt);
+            JwtAuthenticationCache.Entry entry = jwtAuthenticationCache.get(digest);
+
+            // 캐시 미스일 때만 서명 검증 및 claims 파싱
+            if (entry == null) {
+                VerifiedToken token = jwtUtil.verifyToken(jwt);
+                String userId = token.getSubject();
+                UserRole userRole = UserRole.of(token.getUserRole());
+
+                if (userId == null) {
+                    return Outcome.MALFORMED;
                 }
-            } catch (SecurityException | MalformedJwtException e) {
-                log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
-                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
-            } catch (ExpiredJwtException e) {
-                log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
-            } catch (UnsupportedJwtException e) {
-                log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
-            } catch (Exception e) {
-                log.error("Internal server error", e);
-                httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                AuthUser authUser = AuthUser.from(Long.parseLong(userId), token.getUsername(), token.getNickname(), userRole);
+                entry = new JwtAuthenticationCache.Entry(authUser, token.getIssuedAt());
+                jwtAuthenticationCache.put(digest, entry, token.getExpiration());
+            }
+
+            if (isRevoked(entry)) {
+                log.warn("Revoked JWT token, 폐기된 JWT token 입니다. userId={}", entry.authUser().getId());
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return Outcome.REVOKED;
             }
+
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(entry.authUser());
+                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpRequest));
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            }
+            return Outcome.VALID;
+        } catch (SecurityException | MalformedJwtException e) {
+            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+            return Outcome.MALFORMED;
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+            return Outcome.EXPIRED;
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            return Outcome.UNSUPPORTED;
+        } catch (Exception e) {
+            log.error("Internal server error", e);
+            httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return Outcome.ERROR;
+        }
+    }
+
+    // Redis 장애 시에는 통과시킨다(fail open). Access Token 수명이 짧고, 로그아웃한 세션의 재발급은 TokenStore 에서 막힌다
+    private boolean isRevoked(JwtAuthenticationCache.Entry entry) {
+        Long userId = entry.authUser().getId();
+        try {
+            return tokenRevocationList.isRevoked(userId, entry.issuedAt());
+        } catch (DataAccessException e) {
+            tokenRevocationList.recordUnavailable();
+            log.warn("토큰 폐기 여부를 확인하지 못해 통과시킵니다. userId={}", userId, e);
+            return false;
+        }
+    }
+
+    // auth.filter 의 outcome 태그. 값이 고정되어 있어 태그 종류가 늘어나지 않는다
+    enum Outcome {
+        VALID, ABSENT, EXPIRED, MALFORMED, UNSUPPORTED, REVOKED, ERROR;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
         }
-        chain.doFilter(httpRequest, httpResponse);
     }
 }
\ No newline at end of file
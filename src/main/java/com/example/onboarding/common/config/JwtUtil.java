@@ -2,73 +2,163 @@ package com.example.onboarding.common.config;
 
 import com.example.onboarding.common.exception.ServerException;
 import com.example.onboarding.user.enums.UserRole;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.io.UnsupportedEncodingException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URLDecoder;
-import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
+import java.util.Enumeration;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String REFRESH_TOKEN_HEADER = "refreshToken";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ENCODED_BEARER_PREFIX = "Bearer%20"; // 이전에 쿠키에 저장하던 형태
+    private static final String COOKIE_HEADER = "Cookie";
     private static final long ACCESS_TOKEN_TIME = 60 * 60 * 1000L; // 1시간
     private static final long REFRESH_TOKEN_TIME = 24 * 60 * 60 * 1000L; // 1일
-    private final HttpServletResponse httpServletResponse;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final JsonFactory JSON = new JsonFactory();
+    private final Timer accessTokenTimer;
+    private final Timer refreshTokenTimer;
+    private final Timer extractClaimsTimer;
 
     @Value("${jwt.secret.key}")
     private String secretKey;
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    @Value("${jwt.access-token.format:legacy}")
+    private AccessTokenFormat accessTokenFormat = AccessTokenFormat.LEGACY;
+    @Value("${jwt.access-token.omit-default-role:true}")
+    private boolean omitDefaultRole = true;
+    @Value("${jwt.signing.algorithm:HS256}")
+    private JwtAlgorithm signingAlgorithm = JwtAlgorithm.HS256;
+    @Value("${jwt.signing.kid:}")
+    private String signingKid = "";
+    @Value("${jwt.signing.private-key:}")
+    private String signingPrivateKey = "";
+    @Value("${jwt.signing.public-key:}")
+    private String signingPublicKey = "";
+    @Value("${jwt.signing.verification-keys:}")
+    private String verificationKeys = "";
+    @Value("${jwt.signing.accept-legacy-hs256:true}")
+    private boolean acceptLegacyHs256 = true;
+    private Key key; // kid 없는 이전 HS256 토큰의 키
+    private JwtKeyRing keyRing;
+    private JwtParser parser;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.accessTokenTimer = Timer.builder("auth.jwt.create")
+                .description("Time to build and sign a token")
+                .tag("type", "access")
+                .register(meterRegistry);
+        this.refreshTokenTimer = Timer.builder("auth.jwt.create")
+                .description("Time to build and sign a token")
+                .tag("type", "refresh")
+                .register(meterRegistry);
+        this.extractClaimsTimer = Timer.builder("auth.jwt.parse")
+                .description("Time to verify and parse a token with jjwt")
+                .register(meterRegistry);
+    }
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        keyRing = new JwtKeyRing(bytes, signingAlgorithm, signingKid, signingPrivateKey, signingPublicKey,
+                verificationKeys, acceptLegacyHs256);
+        // 파서는 상태가 없으므로 한 번만 만들고, 키는 헤더의 kid 로 고른다
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyRing)
+                .build();
+        log.info("JWT 서명: algorithm={}, kid={}, kid 없는 HS256 허용={}", signingAlgorithm.joseName(),
+                StringUtils.hasText(signingKid) ? signingKid : "-", acceptLegacyHs256);
+    }
+
+    public JwtKeyRing getKeyRing() {
+        return keyRing;
     }
 
     public String createAccessToken(Long userId, String username, String nickname, UserRole userRole) {
-        Date date = new Date();
-
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("username", username)
-                        .claim("nickname", nickname)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
-    }
-
-    public String createRefreshToken(Long userId) {
-        Date now = new Date();
-        return BEARER_PREFIX + Jwts.builder()
-                .setSubject(Long.toString(userId))  // 사용자 ID 설정
-                .setIssuedAt(now)  // 발급 시간
-                .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_TIME))  // 만료 시간 설정
-                .signWith(key, signatureAlgorithm)  // 서명 알고리즘과 키로 서명
-                .compact();
+        return accessTokenTimer.record(() -> {
+            long now = System.currentTimeMillis();
+            return sign(json -> {
+                json.writeStringField("sub", String.valueOf(userId));
+                writeIfPresent(json, accessTokenFormat.usernameClaim(), username);
+                writeIfPresent(json, accessTokenFormat.nicknameClaim(), nickname);
+                if (accessTokenFormat == AccessTokenFormat.LEGACY) {
+                    writeIfPresent(json, accessTokenFormat.roleClaim(), userRole != null ? userRole.name() : null);
+                } else if (!omitDefaultRole || userRole != AccessTokenFormat.DEFAULT_ROLE) {
+                    json.writeNumberField(accessTokenFormat.roleClaim(), userRole.getCode());
+                }
+                json.writeNumberField("exp", (now + ACCESS_TOKEN_TIME) / 1000);
+                json.writeNumberField("iat", now / 1000); // 발급일
+            });
+        });
+    }
+
+    // sessionId: 로그인한 기기의 세션 (TokenStore). 재발급해도 유지된다
+    public String createRefreshToken(Long userId, String sessionId) {
+        return refreshTokenTimer.record(() -> {
+            long now = System.currentTimeMillis();
+            return sign(json -> {
+                json.writeStringField("sub", Long.toString(userId));  // 사용자 ID 설정
+                json.writeStringField(VerifiedToken.SESSION_ID_CLAIM, sessionId);  // 로그인 세션 ID
+                json.writeStringField("jti", UUID.randomUUID().toString());  // 같은 초에 재발급해도 이전 토큰과 구분되도록 고유 ID 부여
+                json.writeNumberField("iat", now / 1000);  // 발급 시간
+                json.writeNumberField("exp", (now + REFRESH_TOKEN_TIME) / 1000);  // 만료 시간 설정
+            });
+        });
+    }
+
+    /**
+     * "Bearer header.payload.signature". jjwt 0.11 은 EdDSA 를 지원하지 않으므로 직렬화와 서명을 직접 한다.
+     * 헤더는 키 링이 미리 인코딩해 둔 것을 쓰고, payload 는 Map 을 거치지 않고 바로 JSON 으로 쓴다.
+     */
+    private String sign(ClaimsWriter claims) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+        try (JsonGenerator json = JSON.createGenerator(payload)) {
+            json.writeStartObject();
+            claims.write(json);
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String signingInput = keyRing.getEncodedHeader() + BASE64_URL.encodeToString(payload.toByteArray());
+        byte[] signature = keyRing.sign(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return BEARER_PREFIX + signingInput + '.' + BASE64_URL.encodeToString(signature);
+    }
+
+    // jjwt 와 같이 값이 없는 claim 은 쓰지 않는다
+    private static void writeIfPresent(JsonGenerator json, String name, String value) throws IOException {
+        if (value != null) {
+            json.writeStringField(name, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClaimsWriter {
+        void write(JsonGenerator json) throws IOException;
     }
 
     public String substringToken(String tokenValue) {
@@ -78,70 +168,124 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
-    // HttpServletRequest 에서 Cookie Value : JWT 가져오기
+    /**
+     * 요청에서 "Bearer " 를 제외한 JWT 를 꺼낸다. 없거나 Bearer 형식이 아니면 null.
+     * Authorization 헤더를 먼저 보고, 헤더가 없을 때만 Cookie 헤더를 직접 훑어 Authorization 쿠키를 찾는다.
+     * 서블릿 컨테이너의 쿠키 파싱(getCookies)과 URL 디코딩을 거치지 않고 토큰 부분만 잘라낸다.
+     */
+    public String resolveToken(HttpServletRequest req) {
+        String header = req.getHeader(AUTHORIZATION_HEADER);
+        if (header != null) {
+            return bearerToken(header);
+        }
+        // HTTP/2 에서는 쿠키가 여러 Cookie 헤더로 나뉘어 올 수 있다
+        Enumeration<String> cookieHeaders = req.getHeaders(COOKIE_HEADER);
+        while (cookieHeaders != null && cookieHeaders.hasMoreElements()) {
+            String cookieHeader = cookieHeaders.nextElement();
+            int valueStart = findCookieValue(cookieHeader, AUTHORIZATION_HEADER);
+            if (valueStart >= 0) {
+                int valueEnd = cookieHeader.indexOf(';', valueStart);
+                return tokenFromCookieValue(cookieHeader, valueStart, valueEnd < 0 ? cookieHeader.length() : valueEnd);
+            }
+        }
+        return null;
+    }
+
+    // Authorization 헤더 값 "Bearer {jwt}" 에서 JWT 만 반환 (인증 방식 이름은 대소문자 무시)
+    public String bearerToken(String authorizationHeader) {
+        int length = BEARER_PREFIX.length();
+        if (authorizationHeader.length() > length && authorizationHeader.regionMatches(true, 0, BEARER_PREFIX, 0, length)) {
+            return authorizationHeader.substring(length);
+        }
+        return null;
+    }
+
+    // Authorization 쿠키 값에서 JWT 만 반환. TokenCookieWriter 가 쓰는 JWT 그대로의 값과 이전의 "Bearer%20{jwt}" 값 모두 허용
+    public String tokenFromCookieValue(String cookieValue) {
+        return tokenFromCookieValue(cookieValue, 0, cookieValue.length());
+    }
+
+    // Refresh Token 쿠키 값을 저장소에 보관된 "Bearer {jwt}" 형태로 변환. 형식이 맞지 않으면 null
+    public String bearerFromCookieValue(String cookieValue) {
+        String token = tokenFromCookieValue(cookieValue);
+        return token != null ? BEARER_PREFIX + token : null;
+    }
+
+    private String tokenFromCookieValue(String source, int start, int end) {
+        while (end > start && source.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end - start >= 2 && source.charAt(start) == '"' && source.charAt(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        // JWT 는 base64url 문자와 '.' 만 사용하므로 접두사 뒤는 디코딩할 필요가 없다
+        if (source.startsWith(ENCODED_BEARER_PREFIX, start)) {
+            start += ENCODED_BEARER_PREFIX.length();
+            return end > start ? source.substring(start, end) : null;
+        }
+        // JWT 는 항상 "eyJ" 로 시작하므로 Bearer 로 시작하지 않으면 그대로 사용
+        if (!source.startsWith("Bearer", start)) {
+            return end > start ? source.substring(start, end) : null;
+        }
+        // 그 밖의 이전 인코딩(예: '+' 로 인코딩된 공백)만 디코딩
+        try {
+            return bearerToken(decodeCookieValue(source.substring(start, end)));
+        } catch (IllegalArgumentException e) {
+            return null; // 잘못된 퍼센트 인코딩
+        }
+    }
+
+    // Cookie 헤더 "a=1; Authorization=...; b=2" 에서 name 쿠키 값의 시작 위치. 없으면 -1
+    static int findCookieValue(String cookieHeader, String name) {
+        int length = cookieHeader.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && cookieHeader.charAt(start) == ' ') {
+                start++;
+            }
+            int nameEnd = start + name.length();
+            if (nameEnd < length && cookieHeader.charAt(nameEnd) == '=' && cookieHeader.startsWith(name, start)) {
+                return nameEnd + 1;
+            }
+            int next = cookieHeader.indexOf(';', start);
+            if (next < 0) {
+                return -1;
+            }
+            start = next + 1;
+        }
+        return -1;
+    }
+
+    // 쿠키만 확인하는 이전 방식. 컨테이너가 모든 쿠키를 파싱하고 매번 디코딩한다 (벤치마크 비교용으로 유지)
     public String getTokenFromRequest(HttpServletRequest req) {
         Cookie[] cookies = req.getCookies();
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 if (cookie.getName().equals("Authorization")) {
-                    try {
-                        return URLDecoder.decode(cookie.getValue(), "UTF-8"); // Encode 되어 넘어간 Value 다시 Decode
-                    } catch (UnsupportedEncodingException e) {
-                        return null;
-                    }
+                    return decodeCookieValue(cookie.getValue());
                 }
             }
         }
         return null;
     }
 
-    public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Encode 되어 넘어간 Value 다시 Decode
+    public String decodeCookieValue(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
     }
 
-    // Access Token을 쿠키에 저장 (Bearer prefix 없이)
-    public void setAccessTokenCookie(String token) {
-        try {
-            token = URLEncoder.encode(token, "utf-8").replaceAll("\\+", "%20"); // Cookie Value 에는 공백이 불가능해서 encoding 진행
-
-            Cookie cookie = new Cookie(AUTHORIZATION_HEADER, token);
-            cookie.setHttpOnly(true);  // XSS 공격 방지를 위해 HttpOnly 설정. HttpOnly로 설정하여 JavaScript에서 접근 불가
-            cookie.setMaxAge(24 * 60 * 60);  // Access Token 쿠키의 만료 시간 1일로 설정 (Access Token 만료 시간과는 별개)
-            cookie.setPath("/");  // 쿠키의 경로를 루트로 설정
-            cookie.setSecure(true);
-            cookie.setDomain("localhost");
-            // Set-Cookie 헤더에 SameSite 속성 추가
-            httpServletResponse.addHeader("Set-Cookie", cookie.getName() + "=" + cookie.getValue() +
-                    "; HttpOnly; Max-Age=" + cookie.getMaxAge() + "; Path=" + cookie.getPath() +
-                    "; Secure; SameSite=Strict");
-            httpServletResponse.addCookie(cookie);
-        } catch (UnsupportedEncodingException e) {
-            log.error("Error encoding access token cookie value", e);
-        }
+    // 실패(만료, 위변조)도 시간에 포함된다
+    public Claims extractClaims(String token) {
+        return extractClaimsTimer.record(() -> parser.parseClaimsJws(token).getBody());
     }
 
-    // Refresh Token 쿠키 설정
-    public void setRefreshTokenCookie(String refreshToken) {
-        try {
-            refreshToken = URLEncoder.encode(refreshToken, "utf-8").replaceAll("\\+", "%20"); // Cookie Value 에는 공백이 불가능해서 encoding 진행
-            Cookie cookie = new Cookie(REFRESH_TOKEN_HEADER, refreshToken);
-            cookie.setHttpOnly(true);        // XSS 공격 방지를 위해 HttpOnly 설정. HttpOnly로 설정하여 JavaScript에서 접근 불가
-            cookie.setMaxAge(1 * 24 * 60 * 60);  // Refresh Token 쿠키의 만료 시간 1일로 설정 (Refresh Token 만료 시간과는 별개)
-            cookie.setPath("/");             // 쿠키의 경로를 루트로 설정
-            cookie.setSecure(true);
-            cookie.setDomain("localhost");
-            // Set-Cookie 헤더에 SameSite 속성 추가
-            httpServletResponse.addHeader("Set-Cookie", cookie.getName() + "=" + cookie.getValue() +
-                    "; HttpOnly; Max-Age=" + cookie.getMaxAge() + "; Path=" + cookie.getPath() +
-                    "; Secure; SameSite=Strict");
-            httpServletResponse.addCookie(cookie);
-            httpServletResponse.addCookie(cookie);
-        } catch (UnsupportedEncodingException e) {
-            log.error("Error encoding refresh token cookie value", e);
+    // 직접 발급한 토큰은 kid 의 키로 fast path 검증하고, 그 외(만료, 위변조 포함)는 jjwt 로 재검증하여 동일한 예외를 던진다
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verified = keyRing.verify(token, System.currentTimeMillis());
+        if (verified != null) {
+            return verified;
         }
+        return VerifiedToken.from(extractClaims(token));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.example.onboarding.common.config;
+
+/**
+ * 관리 포트(management.server.port)에서만 인증 없이 열어 두는 Actuator 경로.
+ * 애플리케이션 포트로 들어온 요청은 같은 경로라도 인증이 필요하므로, 로드밸런서 설정과 무관하게 지표가 외부에 노출되지 않는다.
+ * 관리 포트를 따로 두지 않으면(-1, 0 또는 애플리케이션 포트와 같음) 어떤 요청도 일치하지 않는다.
+ */
+public final class ManagementPaths {
+
+    public static final String PROMETHEUS = "/actuator/prometheus";
+
+    private ManagementPaths() {
+    }
+
+    public static boolean matches(int localPort, String path, int managementPort, int serverPort) {
+        return managementPort > 0 && managementPort != serverPort && localPort == managementPort && PROMETHEUS.equals(path);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.onboarding.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 서블릿/리액티브 스택이 함께 사용하는 비밀번호 인코더
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean
+    public BCryptCalibration bCryptCalibration(
+            @Value("${security.bcrypt.latency-budget-ms:250}") long latencyBudgetMillis,
+            @Value("${security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.bcrypt.max-strength:16}") int maxStrength
+    ) {
+        return new BCryptCostCalibrator(minStrength, maxStrength).calibrate(latencyBudgetMillis);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(BCryptCalibration bCryptCalibration) {
+        return new BCryptPasswordEncoder(bCryptCalibration.getStrength());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시/비교를 요청 스레드가 아닌 전용 스레드 풀에서 실행한다.
+ * 풀 크기는 코어 수, 대기열은 고정 크기이며 대기열이 가득 차면 즉시 429 로 거절한다.
+ * 리액티브 스택은 같은 풀을 Scheduler 로 감싸 사용하므로 이벤트 루프에서 BCrypt 를 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    private final long retryAfterSeconds;
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejections;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.hashing.pool-size:0}") int poolSize,
+            @Value("${security.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.hashing.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.scheduler = Schedulers.fromExecutorService(executor, "password-hash");
+
+        this.waitTimer = Timer.builder("auth.hashing.wait")
+                .description("Time a hashing task spends queued before a worker picks it up")
+                .register(meterRegistry);
+        // 대기 시간을 제외한 BCrypt 실행 시간
+        this.encodeTimer = Timer.builder("auth.bcrypt")
+                .description("Time a hashing worker spends running BCrypt")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.bcrypt")
+                .description("Time a hashing worker spends running BCrypt")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.hashing.rejected")
+                .description("Hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing workers currently busy")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public Mono<String> encodeAsync(CharSequence rawPassword) {
+        return executeAsync(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public Mono<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return executeAsync(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> Mono<T> executeAsync(Timer timer, Callable<T> task) {
+        return Mono.defer(() -> {
+                    long enqueuedAt = System.nanoTime();
+                    return Mono.fromCallable(() -> {
+                        waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                        return timer.recordCallable(task);
+                    }).subscribeOn(scheduler);
+                })
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejections.increment();
+                    return new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+                });
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.onboarding.common.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 없이 접근할 수 있는 경로. 보안 설정의 permitAll 과 JWT 필터의 건너뛰기 판단이 같은 목록을 사용한다.
+ * 지표(/actuator/prometheus)는 여기에 두지 않고 관리 포트에서만 연다 ({@link ManagementPaths}).
+ * 패턴은 "/**" 로 끝나는 접두사와 정확히 일치하는 경로 두 가지만 허용하며, 시작 시 한 번 나눠 두어 요청마다 패턴을 해석하지 않는다.
+ */
+public final class PublicPaths {
+
+    private static final String[] PATTERNS = {
+            "/signup",
+            "/sign",
+            "/token/refresh",
+            "/.well-known/jwks.json", // 토큰을 검증하는 다른 서비스가 공개 키를 가져간다
+            "/actuator/health",
+            "/livez", // 애플리케이션 포트의 헬스 체크 (management.endpoint.health.probes.add-additional-paths)
+            "/readyz",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    private static final Set<String> EXACT;
+    private static final String[] PREFIXES;
+
+    static {
+        List<String> exact = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            if (pattern.endsWith("/**")) {
+                prefixes.add(pattern.substring(0, pattern.length() - 3));
+            } else if (pattern.contains("*")) {
+                throw new IllegalStateException("지원하지 않는 패턴입니다: " + pattern);
+            } else {
+                exact.add(pattern);
+            }
+        }
+        EXACT = Set.copyOf(exact);
+        PREFIXES = prefixes.toArray(String[]::new);
+    }
+
+    private PublicPaths() {
+    }
+
+    public static String[] patterns() {
+        return PATTERNS.clone();
+    }
+
+    // "/swagger-ui/**" 는 "/swagger-ui" 와 그 하위 경로에 일치 (AntPathMatcher/PathPattern 과 같은 의미)
+    public static boolean matches(String path) {
+        if (EXACT.contains(path)) {
+            return true;
+        }
+        for (String prefix : PREFIXES) {
+            if (path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
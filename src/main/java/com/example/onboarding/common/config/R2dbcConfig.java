@@ -0,0 +1,12 @@
+package com.example.onboarding.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+// 리액티브 스택에서 createdAt/modifiedAt 을 채운다 (JpaConfig 의 JPA Auditing 과 같은 역할)
+@Configuration
+@Profile("reactive")
+@EnableR2dbcAuditing
+public class R2dbcConfig {
+}
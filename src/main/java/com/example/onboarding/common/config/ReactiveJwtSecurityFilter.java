@@ -0,0 +1,125 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.dto.AuthUser;
+import com.example.onboarding.user.enums.UserRole;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link JwtSecurityFilter} 의 WebFlux 버전. 같은 JwtUtil, 인증 캐시, 폐기 목록을 사용한다.
+ * 서명 검증은 CPU 만 쓰므로 이벤트 루프에서 처리하고, Bloom filter 가 폐기 가능성을 알릴 때만 Redis 조회를 별도 스레드로 넘긴다.
+ * WebFilter 빈은 모든 요청 체인에 자동 등록되므로 빈으로 두지 않고 {@link ReactiveSecurityConfig} 에서 생성한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtSecurityFilter implements WebFilter {
+
+    private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (PublicPaths.matches(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        String jwt = resolveToken(request);
+        if (jwt == null) {
+            return chain.filter(exchange);
+        }
+
+        JwtAuthenticationCache.Entry entry;
+        try {
+            entry = authenticate(jwt);
+        } catch (SecurityException | MalformedJwtException e) {
+            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
+            return reject(exchange, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Internal server error", e);
+            return reject(exchange, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        if (entry == null) {
+            return chain.filter(exchange);
+        }
+
+        return isRevoked(entry).flatMap(revoked -> {
+            if (revoked) {
+                log.warn("Revoked JWT token, 폐기된 JWT token 입니다. userId={}", entry.authUser().getId());
+                return reject(exchange, HttpStatus.UNAUTHORIZED);
+            }
+            JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(entry.authUser());
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authenticationToken));
+        });
+    }
+
+    // Authorization 헤더 우선, 없으면 쿠키
+    private String resolveToken(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(JwtUtil.AUTHORIZATION_HEADER);
+        if (header != null) {
+            return jwtUtil.bearerToken(header);
+        }
+        HttpCookie cookie = request.getCookies().getFirst(JwtUtil.AUTHORIZATION_HEADER);
+        return cookie != null ? jwtUtil.tokenFromCookieValue(cookie.getValue()) : null;
+    }
+
+    // 캐시 미스일 때만 서명 검증 및 claims 파싱
+    private JwtAuthenticationCache.Entry authenticate(String jwt) {
+        String digest = jwtAuthenticationCache.digest(jwt);
+        JwtAuthenticationCache.Entry entry = jwtAuthenticationCache.get(digest);
+        if (entry != null) {
+            return entry;
+        }
+
+        VerifiedToken token = jwtUtil.verifyToken(jwt);
+        String userId = token.getSubject();
+        if (userId == null) {
+            return null;
+        }
+        AuthUser authUser = AuthUser.from(Long.parseLong(userId), token.getUsername(), token.getNickname(),
+                UserRole.of(token.getUserRole()));
+        entry = new JwtAuthenticationCache.Entry(authUser, token.getIssuedAt());
+        jwtAuthenticationCache.put(digest, entry, token.getExpiration());
+        return entry;
+    }
+
+    private Mono<Boolean> isRevoked(JwtAuthenticationCache.Entry entry) {
+        Long userId = entry.authUser().getId();
+        if (!tokenRevocationList.mightBeRevoked(userId)) {
+            return Mono.just(false);
+        }
+        // 정확한 확인은 동기 Redis 조회이므로 이벤트 루프 밖에서 실행. Redis 장애 시에는 JwtSecurityFilter 와 같이 통과시킨다
+        return Mono.fromCallable(() -> tokenRevocationList.isRevoked(userId, entry.issuedAt()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(DataAccessException.class, e -> {
+                    tokenRevocationList.recordUnavailable();
+                    log.warn("토큰 폐기 여부를 확인하지 못해 통과시킵니다. userId={}", userId, e);
+                    return Mono.just(false);
+                });
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
+}
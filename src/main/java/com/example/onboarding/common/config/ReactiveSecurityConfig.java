@@ -0,0 +1,65 @@
+package com.example.onboarding.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+
+import java.net.InetSocketAddress;
+
+// WebSecurityConfig 의 리액티브 버전 (spring.profiles.active=reactive)
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            JwtUtil jwtUtil,
+            JwtAuthenticationCache jwtAuthenticationCache,
+            TokenRevocationList tokenRevocationList,
+            @Value("${management.server.port:-1}") int managementPort,
+            @Value("${server.port:8080}") int serverPort
+    ) {
+        ReactiveJwtSecurityFilter jwtSecurityFilter =
+                new ReactiveJwtSecurityFilter(jwtUtil, jwtAuthenticationCache, tokenRevocationList);
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance()) // 세션에 인증 정보를 저장하지 않음
+                .addFilterAt(jwtSecurityFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                // 서블릿 스택(익명 인증 비활성화)과 같이 인증 정보가 없으면 403
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(PublicPaths.patterns()).permitAll()
+                        // 지표 스크레이프는 내부망에서만 접근하는 관리 포트로 들어온 요청만 허용
+                        .matchers(managementScrape(managementPort, serverPort)).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .build();
+    }
+
+    private static ServerWebExchangeMatcher managementScrape(int managementPort, int serverPort) {
+        return exchange -> {
+            InetSocketAddress localAddress = exchange.getRequest().getLocalAddress();
+            int localPort = localAddress != null ? localAddress.getPort() : -1;
+            return ManagementPaths.matches(localPort, exchange.getRequest().getPath().value(), managementPort, serverPort)
+                    ? ServerWebExchangeMatcher.MatchResult.match()
+                    : ServerWebExchangeMatcher.MatchResult.notMatch();
+        };
+    }
+}
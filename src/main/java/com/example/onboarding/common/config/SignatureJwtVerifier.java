@@ -0,0 +1,50 @@
+package com.example.onboarding.common.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/**
+ * ES256 / EdDSA 토큰 검증기. 검증용 Signature 는 한 번 초기화해 풀에서 재사용한다.
+ * jjwt 0.11 은 EdDSA 를 읽지 못하므로 EdDSA 토큰의 만료는 여기서 ExpiredJwtException 으로 알린다.
+ */
+public class SignatureJwtVerifier extends JwsFastVerifier<Signature> {
+
+    private final PublicKey publicKey;
+
+    public SignatureJwtVerifier(JwtAlgorithm algorithm, PublicKey publicKey) {
+        super(algorithm, () -> algorithm.newVerifier(publicKey));
+        if (algorithm.isSymmetric()) {
+            throw new IllegalArgumentException("공개 키 알고리즘이 아닙니다: " + algorithm);
+        }
+        this.publicKey = publicKey;
+    }
+
+    @Override
+    protected boolean verifySignature(Signature signature, byte[] signingInput, int length, byte[] jwsSignature,
+                                      byte[] scratch) {
+        try {
+            signature.update(signingInput, 0, length);
+            return signature.verify(jwsSignature, 0, getAlgorithm().signatureLength());
+        } catch (SignatureException e) {
+            // 예외 후의 상태는 구현에 따라 다르므로 다시 초기화
+            try {
+                signature.initVerify(publicKey);
+            } catch (InvalidKeyException ignored) {
+                // 생성 시 같은 키로 초기화했으므로 발생하지 않음
+            }
+            return false;
+        }
+    }
+
+    @Override
+    protected VerifiedToken expired(VerifiedToken token) {
+        if (getAlgorithm() == JwtAlgorithm.EDDSA) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + token.getExpiration() + "ms");
+        }
+        return null;
+    }
+}
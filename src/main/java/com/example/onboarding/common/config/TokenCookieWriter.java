@@ -0,0 +1,71 @@
+package com.example.onboarding.common.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * 로그인/재발급 응답의 토큰 쿠키를 Set-Cookie 헤더로 쓴다.
+ * 속성 부분은 설정값으로 한 번만 만들어 두고, 요청마다 "이름=JWT" 만 붙인다.
+ * JWT 는 base64url 문자와 '.' 만 사용하므로 인코딩 없이 그대로 쿠키 값으로 쓴다 ("Bearer " 접두사는 제외).
+ */
+@Component
+public class TokenCookieWriter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final String accessTokenPrefix = JwtUtil.AUTHORIZATION_HEADER + "=";
+    private final String refreshTokenPrefix = JwtUtil.REFRESH_TOKEN_HEADER + "=";
+    private final String attributes;
+
+    public TokenCookieWriter(
+            @Value("${jwt.cookie.max-age:1d}") Duration maxAge,
+            @Value("${jwt.cookie.domain:}") String domain,
+            @Value("${jwt.cookie.secure:true}") boolean secure,
+            @Value("${jwt.cookie.same-site:Strict}") String sameSite
+    ) {
+        // 속성 순서는 ResponseCookie 와 같게
+        StringBuilder builder = new StringBuilder("; Path=/");
+        if (StringUtils.hasText(domain)) {
+            builder.append("; Domain=").append(domain);
+        }
+        builder.append("; Max-Age=").append(maxAge.toSeconds());
+        if (secure) {
+            builder.append("; Secure");
+        }
+        builder.append("; HttpOnly");
+        if (StringUtils.hasText(sameSite)) {
+            builder.append("; SameSite=").append(sameSite);
+        }
+        this.attributes = builder.toString();
+    }
+
+    // 쿠키마다 Set-Cookie 헤더 한 개. 응답은 컨트롤러에서 받은 객체를 그대로 사용 (프록시 조회 없음)
+    public void write(HttpServletResponse response, String accessToken, String refreshToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE, accessTokenCookie(accessToken));
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie(refreshToken));
+    }
+
+    // Set-Cookie 헤더 값 (WebFlux 응답에서도 사용)
+    public String accessTokenCookie(String accessToken) {
+        return cookie(accessTokenPrefix, accessToken);
+    }
+
+    public String refreshTokenCookie(String refreshToken) {
+        return cookie(refreshTokenPrefix, refreshToken);
+    }
+
+    // 중간 문자열 없이 한 번에 조립
+    private String cookie(String prefix, String token) {
+        int start = token.startsWith(BEARER_PREFIX) ? BEARER_PREFIX.length() : 0;
+        return new StringBuilder(prefix.length() + token.length() - start + attributes.length())
+                .append(prefix)
+                .append(token, start, token.length())
+                .append(attributes)
+                .toString();
+    }
+}
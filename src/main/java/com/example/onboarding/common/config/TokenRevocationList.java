@@ -0,0 +1,264 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.bloom.BloomFilter;
+import com.example.onboarding.common.cache.ExpiringLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 단위 토큰 폐기 목록.
+ * Redis sorted set(REVOKED_USERS: userId -> 폐기 시각)이 원본이고, 각 노드는 폐기된 userId 의 Bloom filter 를 메모리에 둔다.
+ * Bloom filter 가 "없음"이라 하면 네트워크 없이 통과시키고, "있을 수 있음"일 때만 정확한 폐기 시각을 확인한다.
+ * 정확한 폐기 시각은 사용자별로 노드 메모리에 캐시하므로, 로그아웃한 사용자의 토큰도 요청마다 Redis 를 조회하지 않는다.
+ * 폐기는 pub/sub 메시지(userId:폐기 시각)로 Bloom filter 와 캐시에 즉시 반영되고, 주기적인 재적재로 보관 기간이 지난 항목을 정리한다.
+ * 메시지를 놓친 노드는 캐시 항목이 만료(reload-interval)된 뒤 Redis 에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MessageListener, DisposableBean {
+
+    public static final String REVOKED_USERS_KEY = "REVOKED_USERS";
+    public static final String REVOCATION_CHANNEL = "token-revocation";
+    // 발급된 토큰 중 가장 긴 수명(Refresh Token). 이보다 오래된 폐기 기록은 의미가 없다
+    private static final Duration RETENTION = Duration.ofHours(24);
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    // 캐시에서 "폐기 기록 없음"(Bloom filter 오탐)을 나타내는 값
+    private static final long NOT_REVOKED = -1L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ScheduledExecutorService reloadExecutor;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final Duration reloadInterval;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building; // 재적재 중 도착한 폐기 메시지를 새 필터에도 반영
+    // userId -> 폐기 시각(ms), 기록이 없으면 NOT_REVOKED
+    private final ExpiringLruCache<String, Long> revokedAtCache;
+    // 폐기 메시지를 받을 때마다 증가. Redis 조회 중 폐기가 도착하면 조회 결과를 캐시에 남기지 않는다
+    private final AtomicLong revocations = new AtomicLong();
+
+    private final Counter exactChecks;
+    private final Counter revokedHits;
+    private final Counter unavailable;
+
+    public TokenRevocationList(
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${jwt.revocation.fpp:0.01}") double fpp,
+            @Value("${jwt.revocation.reload-interval:10m}") Duration reloadInterval,
+            @Value("${jwt.revocation.cache-size:10000}") int cacheSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.reloadInterval = reloadInterval;
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+        this.revokedAtCache = new ExpiringLruCache<>(cacheSize);
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.exactChecks = Counter.builder("auth.revocation.exact.checks")
+                .description("Redis lookups made because the Bloom filter reported a possible match and the revocation time was not cached")
+                .register(meterRegistry);
+        this.revokedHits = Counter.builder("auth.revocation.revoked")
+                .description("Tokens rejected because their user was revoked")
+                .register(meterRegistry);
+        this.unavailable = Counter.builder("auth.revocation.unavailable")
+                .description("Revocation checks that could not reach Redis and were let through")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.bloom.memory", this, r -> r.filter.getMemoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.bloom.entries", this, r -> r.filter.getInsertions())
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.bloom.fpp.target", this, r -> r.filter.getTargetFpp())
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.bloom.fpp.estimated", this, r -> r.filter.getEstimatedFpp())
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.cache.size", revokedAtCache, ExpiringLruCache::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        // 시작 시 Redis 가 없어도 빈 필터로 기동하고, 주기적인 재적재가 복구한다
+        reloadSafely();
+        reloadExecutor.scheduleWithFixedDelay(this::reloadSafely,
+                reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        double bytesPerMillion = filter.getMemoryBytes() * (1_000_000.0 / expectedInsertions);
+        log.info("토큰 폐기 목록 Bloom filter: expected={}, fpp={}, hashes={}, memory={}KB ({}KB per million)",
+                expectedInsertions, fpp, filter.getHashFunctions(), filter.getMemoryBytes() / 1024,
+                Math.round(bytesPerMillion / 1024));
+    }
+
+    // 해당 시각까지 발급된 사용자의 모든 토큰을 폐기.
+    // iat 가 초 단위이므로 폐기 시각도 초 단위로 내림해 저장하고, 같은 초에 발급된 토큰까지 폐기한다
+    public void revokeUser(Long userId) {
+        String member = String.valueOf(userId);
+        long revokedAt = System.currentTimeMillis() / 1000 * 1000;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(REVOKED_USERS_KEY, revokedAt, member);
+            stringConnection.publish(REVOCATION_CHANNEL, member + ":" + revokedAt);
+            return null;
+        });
+        add(member, revokedAt);
+    }
+
+    // Bloom filter 만으로 판단. false 면 폐기되지 않은 것이 확실하다 (리액티브 스택에서 블로킹 조회가 필요한지 판단할 때 사용)
+    public boolean mightBeRevoked(Long userId) {
+        return filter.mightContain(String.valueOf(userId));
+    }
+
+    // issuedAt 은 ms 단위(iat * 1000). 캐시에 없을 때의 Redis 조회가 실패하면 DataAccessException 을 그대로 던진다.
+    // 실패 시 정책은 호출하는 필터가 정한다
+    public boolean isRevoked(Long userId, long issuedAt) {
+        String member = String.valueOf(userId);
+        if (!filter.mightContain(member)) {
+            return false;
+        }
+        long revokedAt = revokedAt(member);
+        boolean revoked = revokedAt != NOT_REVOKED && issuedAt <= revokedAt;
+        if (revoked) {
+            revokedHits.increment();
+        }
+        return revoked;
+    }
+
+    // 메시지 본문은 "userId:폐기 시각(ms)". 폐기 시각이 없는 메시지는 캐시를 비워 다음 확인 때 Redis 에서 읽게 한다
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            add(body, null);
+            return;
+        }
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+            add(body.substring(0, separator), null);
+        }
+    }
+
+    // 정확한 확인이 Redis 장애로 실패한 횟수
+    public void recordUnavailable() {
+        unavailable.increment();
+    }
+
+    public BloomFilter getFilter() {
+        return filter;
+    }
+
+    // Redis 원본으로 새 필터를 만들어 교체 (보관 기간이 지난 항목은 Redis 에서도 삭제)
+    void reload() {
+        long minScore = System.currentTimeMillis() - RETENTION.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_USERS_KEY, 0, minScore);
+
+        BloomFilter next = new BloomFilter(expectedInsertions, fpp);
+        building = next;
+        try {
+            long offset = 0;
+            Set<String> chunk;
+            do {
+                chunk = redisTemplate.opsForZSet()
+                        .rangeByScore(REVOKED_USERS_KEY, minScore, Double.POSITIVE_INFINITY, offset, LOAD_CHUNK_SIZE);
+                if (chunk == null) {
+                    break;
+                }
+                chunk.forEach(next::put);
+                offset += chunk.size();
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+            filter = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 목록 재적재 실패, 기존 필터를 유지합니다.", e);
+        }
+    }
+
+    private long revokedAt(String member) {
+        long now = System.currentTimeMillis();
+        Long cached = revokedAtCache.get(member, now);
+        if (cached != null) {
+            return cached;
+        }
+        exactChecks.increment();
+        long seen = revocations.get();
+        Double score = redisTemplate.opsForZSet().score(REVOKED_USERS_KEY, member);
+        long revokedAt = score != null ? score.longValue() : NOT_REVOKED;
+        if (revocations.get() == seen) {
+            revokedAtCache.put(member, revokedAt, now + reloadInterval.toMillis());
+            // 저장하는 사이에 폐기 메시지가 도착했다면 오래된 값을 남기지 않는다
+            if (revocations.get() != seen) {
+                revokedAtCache.invalidate(member);
+            }
+        }
+        return revokedAt;
+    }
+
+    // revokedAt 이 null 이면 폐기 시각을 모르므로 캐시를 비운다
+    private void add(String member, Long revokedAt) {
+        revocations.incrementAndGet();
+        if (revokedAt != null) {
+            revokedAtCache.put(member, revokedAt, System.currentTimeMillis() + reloadInterval.toMillis());
+        } else {
+            revokedAtCache.invalidate(member);
+        }
+        filter.put(member);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(member);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        reloadExecutor.shutdown();
+        listenerContainer.destroy();
+    }
+}
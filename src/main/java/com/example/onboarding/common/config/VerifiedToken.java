@@ -0,0 +1,44 @@
+package com.example.onboarding.common.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 서명과 만료 검증을 통과한 토큰에서 필터가 사용하는 필드만 추린 값 객체
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    private final String subject;
+    private final String username;
+    private final String nickname;
+    private final String userRole;
+    private final long expiration; // epoch millis
+    private final long issuedAt; // epoch millis, iat 가 없으면 0
+    private final String sessionId; // Refresh Token 의 sid (TokenStore 의 세션), 없으면 null
+
+    // legacy 와 compact 형식 모두 읽는다 (AccessTokenFormat). "u" 가 있으면 compact 이고, 다른 형식의 claim 은 무시한다.
+    // JwsFastVerifier 도 같은 규칙을 쓴다
+    public static VerifiedToken from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        Date issuedAt = claims.getIssuedAt();
+        AccessTokenFormat format = claims.containsKey(AccessTokenFormat.COMPACT.usernameClaim())
+                ? AccessTokenFormat.COMPACT : AccessTokenFormat.LEGACY;
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(format.usernameClaim(), String.class),
+                claims.get(format.nicknameClaim(), String.class),
+                format == AccessTokenFormat.COMPACT
+                        ? AccessTokenFormat.roleName(claims.get(format.roleClaim(), Integer.class))
+                        : claims.get(format.roleClaim(), String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+                issuedAt != null ? issuedAt.getTime() : 0L,
+                claims.get(SESSION_ID_CLAIM, String.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.onboarding.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드에서 JFR jdk.VirtualThreadPinned 이벤트를 구독해 pinning 을 보고한다.
+ * (synchronized 안에서의 블로킹 I/O 등으로 가상 스레드가 캐리어 스레드를 놓지 못한 경우)
+ * 발생 횟수와 시간은 jvm.threads.virtual.pinned 로 집계하고, 처음 보는 호출 위치만 스택과 함께 로그로 남긴다.
+ * Spring Boot 와 같은 기준(spring.threads.virtual.enabled 이면서 Java 21 이상)으로 가상 스레드 모드일 때만 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int MAX_REPORTED_SITES = 1_000;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Counter unreported;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        this.unreported = Counter.builder("jvm.threads.virtual.pinned.unreported")
+                .description("Pinning events not logged because the call site was already reported")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작: threshold={}", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String stack = format(event.getStackTrace());
+        String site = stack.lines().findFirst().orElse("");
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("가상 스레드 pinning 감지: duration={}ms, thread={}\n{}", event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "unknown", stack);
+        } else {
+            unreported.increment();
+        }
+    }
+
+    // 호출 위치 구분을 위해 JDK 내부 프레임을 제외한 스택 상단만 사용
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(stack trace unavailable)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .filter(frame -> frame.isJavaFrame() && !frame.getMethod().getType().getName().startsWith("java."))
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
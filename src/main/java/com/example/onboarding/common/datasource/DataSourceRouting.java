@@ -0,0 +1,34 @@
+package com.example.onboarding.common.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션을 읽기 전용이어도 primary 로 보내도록 표시한다 (read-your-writes).
+ * 커넥션은 첫 쿼리에서 고르므로 첫 쿼리 전에 호출해야 하고, 표시는 트랜잭션이 끝나면 지워진다.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static void usePrimary() {
+        // 트랜잭션 밖의 쿼리는 원래 primary 로 간다
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || PRIMARY.get() != null) {
+            return;
+        }
+        PRIMARY.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY.remove();
+            }
+        });
+    }
+
+    static boolean isPrimaryRequested() {
+        return PRIMARY.get() != null;
+    }
+}
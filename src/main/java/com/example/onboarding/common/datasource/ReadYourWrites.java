@@ -0,0 +1,79 @@
+package com.example.onboarding.common.datasource;
+
+import com.example.onboarding.common.cache.ExpiringLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 사용자가 직접 쓴 데이터를 window 동안은 primary 에서 읽게 한다 (가입 직후 로그인 등).
+ * 같은 노드는 메모리에서 바로 판단하고, 다른 노드에서의 쓰기는 TTL 이 window 인 Redis 키로 확인한다.
+ * 복제본 라우팅이 꺼져 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ReadYourWrites {
+
+    public static final String KEY_PREFIX = "READ_YOUR_WRITES_";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration window;
+    private final ExpiringLruCache<String, Boolean> recentWrites;
+
+    public ReadYourWrites(
+            StringRedisTemplate redisTemplate,
+            @Value("${datasource.routing.enabled:false}") boolean enabled,
+            @Value("${datasource.routing.read-your-writes-window:5s}") Duration window,
+            @Value("${datasource.routing.read-your-writes-cache-size:10000}") int cacheSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.window = window;
+        this.recentWrites = new ExpiringLruCache<>(cacheSize);
+    }
+
+    // username 의 데이터를 쓴 직후 호출
+    public void recordWrite(String username) {
+        if (!enabled) {
+            return;
+        }
+        String key = key(username);
+        recentWrites.put(key, Boolean.TRUE, System.currentTimeMillis() + window.toMillis());
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, "1", window);
+        } catch (Exception e) {
+            log.warn("read-your-writes 기록 실패, 이 노드에서만 적용됩니다: username={}", username, e);
+        }
+    }
+
+    // 최근에 쓴 사용자라면 현재 트랜잭션을 primary 로 보낸다. 트랜잭션의 첫 쿼리 전에 호출해야 한다
+    public void routeToPrimaryIfRecentlyWritten(String username) {
+        if (enabled && recentlyWritten(key(username))) {
+            DataSourceRouting.usePrimary();
+        }
+    }
+
+    private boolean recentlyWritten(String key) {
+        if (recentWrites.get(key, System.currentTimeMillis()) != null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key));
+        } catch (Exception e) {
+            // 확인할 수 없으면 오래된 데이터를 읽지 않도록 primary 사용
+            return true;
+        }
+    }
+
+    // username 유니크 제약과 같이 대소문자 구분 없음
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
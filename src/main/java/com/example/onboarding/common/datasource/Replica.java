@@ -0,0 +1,40 @@
+package com.example.onboarding.common.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 하나와 마지막으로 확인한 상태. 상태는 ReplicaLagMonitor 가 갱신한다.
+ */
+@Getter
+public class Replica {
+
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final String name;
+    private final DataSource dataSource;
+    // 처음 확인하기 전과 확인에 실패한 동안은 사용하지 않는다
+    private volatile long lagMillis = UNKNOWN;
+    private volatile long latencyNanos = UNKNOWN;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isAvailable(long maxLagMillis) {
+        return lagMillis <= maxLagMillis;
+    }
+
+    // 확인 쿼리 왕복 시간은 지수 이동 평균으로 누적해 일시적인 튐에 덜 민감하게 한다
+    void recordProbe(long lagMillis, long latencyNanos) {
+        long previous = this.latencyNanos;
+        this.latencyNanos = previous == UNKNOWN ? latencyNanos : (previous * 4 + latencyNanos) / 5;
+        this.lagMillis = lagMillis;
+    }
+
+    void markUnavailable() {
+        lagMillis = UNKNOWN;
+    }
+}
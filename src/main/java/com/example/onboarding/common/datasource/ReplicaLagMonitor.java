@@ -0,0 +1,102 @@
+package com.example.onboarding.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본마다 주기적으로 SHOW REPLICA STATUS 를 실행해 지연(Seconds_Behind_Source)과 왕복 시간을 기록한다.
+ * 복제가 멈췄거나(지연 NULL) 쿼리가 실패하면 다음 확인까지 그 복제본을 사용하지 않는다.
+ * 결과가 비어 있으면 복제가 설정되지 않은 인스턴스이므로(잘못된 URL, 복제 해제 등) 사용하지 않는다.
+ * 로컬 테스트용 두 번째 DB 처럼 복제 없이 스키마만 같은 경우에만 allowUnreplicated 로 지연 0 으로 취급한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements DisposableBean {
+
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final List<Replica> replicas;
+    private final Duration interval;
+    private final boolean allowUnreplicated;
+    private final ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(List<Replica> replicas, Duration interval, boolean allowUnreplicated,
+                             MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.interval = interval;
+        this.allowUnreplicated = allowUnreplicated;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.getLagMillis() == Long.MAX_VALUE ? Double.NaN : r.getLagMillis())
+                    .description("Replication lag from the last probe, NaN when the replica is unavailable")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::probeAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void probeAll() {
+        for (Replica replica : replicas) {
+            probe(replica);
+        }
+    }
+
+    void probe(Replica replica) {
+        long startedAt = System.nanoTime();
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            long lagMillis = 0;
+            if (resultSet.next()) {
+                long seconds = resultSet.getLong(LAG_COLUMN);
+                if (resultSet.wasNull()) {
+                    exclude(replica, "복제가 멈춘 복제본을 제외합니다: {}");
+                    return;
+                }
+                lagMillis = TimeUnit.SECONDS.toMillis(seconds);
+            } else if (!allowUnreplicated) {
+                exclude(replica, "복제가 설정되지 않은 복제본을 제외합니다: {}");
+                return;
+            }
+            replica.recordProbe(lagMillis, System.nanoTime() - startedAt);
+        } catch (SQLException | RuntimeException e) {
+            if (replica.isAvailable(Long.MAX_VALUE - 1)) {
+                log.warn("복제본 상태 확인 실패, 제외합니다: {}", replica.getName(), e);
+            }
+            replica.markUnavailable();
+        }
+    }
+
+    // 상태가 바뀔 때만 로그를 남긴다
+    private static void exclude(Replica replica, String message) {
+        if (replica.isAvailable(Long.MAX_VALUE - 1)) {
+            log.warn(message, replica.getName());
+        }
+        replica.markUnavailable();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
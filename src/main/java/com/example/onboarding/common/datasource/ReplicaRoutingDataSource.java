@@ -0,0 +1,118 @@
+package com.example.onboarding.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 primary 로 보낸다.
+ * 트랜잭션 시작이 아니라 첫 쿼리에서 커넥션을 골라야 readOnly 여부를 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * 지연이 max-lag 를 넘었거나 상태 확인에 실패한 복제본은 건너뛰고, 쓸 수 있는 복제본이 없으면 primary 를 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routed = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Selection selection, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.maxLagMillis = maxLag.toMillis();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routed.put(PRIMARY, counter(meterRegistry, PRIMARY));
+        for (Replica replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+            routed.put(replica.getName(), counter(meterRegistry, replica.getName()));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = PRIMARY;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !DataSourceRouting.isPrimaryRequested()) {
+            Replica replica = select();
+            if (replica != null) {
+                target = replica.getName();
+            }
+        }
+        routed.get(target).increment();
+        return target;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    Replica select() {
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        return switch (selection) {
+            case ROUND_ROBIN -> roundRobin();
+            case LEAST_LATENCY -> leastLatency();
+        };
+    }
+
+    private Replica roundRobin() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(maxLagMillis)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastLatency() {
+        Replica best = null;
+        for (Replica replica : replicas) {
+            if (replica.isAvailable(maxLagMillis) && (best == null || replica.getLatencyNanos() < best.getLatencyNanos())) {
+                best = replica;
+            }
+        }
+        return best;
+    }
+
+    // primary 는 별도 빈이므로 여기서는 복제본 풀만 닫는다
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by ReplicaRoutingDataSource")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    public enum Selection {
+        ROUND_ROBIN, LEAST_LATENCY
+    }
+}
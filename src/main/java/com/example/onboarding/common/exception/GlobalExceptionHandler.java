@@ -2,6 +2,8 @@ package com.example.onboarding.common.exception;
 
 import com.example.onboarding.common.dto.ExceptionResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.net.URI;
 
 @RestControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(InvalidRequestException.class)
@@ -18,6 +21,12 @@ public class GlobalExceptionHandler {
                 HttpStatus.BAD_REQUEST, e.getMessage(), URI.create(request.getRequestURI())));
     }
 
+    // 요청 경로를 파싱하지 않고 미리 정해 둔 응답 사용
+    @ExceptionHandler(LoginFailedException.class)
+    public ResponseEntity<ExceptionResponse> handleLoginFailedException(LoginFailedException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.toResponse());
+    }
+
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<ExceptionResponse> handleServerException(ServerException e, HttpServletRequest request) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ExceptionResponse.from(
@@ -30,6 +39,13 @@ public class GlobalExceptionHandler {
                 HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), URI.create(request.getRequestURI())));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ExceptionResponse> handleTooManyRequestsException(TooManyRequestsException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ExceptionResponse.from(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), URI.create(request.getRequestURI())));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ExceptionResponse> handleRuntimeException(RuntimeException e, HttpServletRequest request) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ExceptionResponse.from(
@@ -4,4 +4,9 @@ public class InvalidRequestException extends RuntimeException {
     public InvalidRequestException(String message) {
         super(message);
     }
+
+    // 예상된 실패를 자주 던지는 하위 클래스용. 스택 트레이스를 채우지 않는다
+    protected InvalidRequestException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.onboarding.common.exception;
+
+import com.example.onboarding.common.dto.ExceptionResponse;
+import org.springframework.http.HttpStatus;
+
+import java.net.URI;
+
+/**
+ * 잘못된 username/비밀번호로 인한 로그인 실패. 크리덴셜 스터핑 중에는 초당 수천 번 발생하므로
+ * 스택 트레이스 없이 미리 만든 인스턴스를 재사용하고, 응답의 상태/메시지/경로도 고정해 둔다.
+ */
+public class LoginFailedException extends InvalidRequestException {
+
+    private static final URI SIGN_PATH = URI.create("/sign");
+
+    public static final LoginFailedException INVALID_USERNAME = new LoginFailedException("Invalid username");
+    public static final LoginFailedException INVALID_PASSWORD = new LoginFailedException("Invalid password");
+
+    private LoginFailedException(String message) {
+        super(message, false);
+    }
+
+    // timestamp 외에는 모두 고정값
+    public ExceptionResponse toResponse() {
+        return ExceptionResponse.from(HttpStatus.BAD_REQUEST, getMessage(), SIGN_PATH);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.onboarding.common.exception;
+
+// 로그인 시도 한도 초과. 공격 중에는 거절이 대부분이므로 스택 트레이스를 만들지 않는다
+public class LoginThrottledException extends TooManyRequestsException {
+
+    private static final String MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super(MESSAGE, retryAfterSeconds, false);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.onboarding.common.exception;
+
+import com.example.onboarding.common.dto.ExceptionResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+
+// GlobalExceptionHandler 의 리액티브 버전. 같은 예외를 같은 상태 코드로 응답한다
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidRequestException(InvalidRequestException e, ServerHttpRequest request) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ExceptionResponse.from(
+                HttpStatus.BAD_REQUEST, e.getMessage(), path(request)));
+    }
+
+    // 요청 경로를 파싱하지 않고 미리 정해 둔 응답 사용
+    @ExceptionHandler(LoginFailedException.class)
+    public ResponseEntity<ExceptionResponse> handleLoginFailedException(LoginFailedException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.toResponse());
+    }
+
+    @ExceptionHandler(ServerException.class)
+    public ResponseEntity<ExceptionResponse> handleServerException(ServerException e, ServerHttpRequest request) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ExceptionResponse.from(
+                HttpStatus.NOT_FOUND, e.getMessage(), path(request)));
+    }
+
+    @ExceptionHandler(TokenStorageException.class)
+    public ResponseEntity<ExceptionResponse> handleTokenStorageException(TokenStorageException e, ServerHttpRequest request) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ExceptionResponse.from(
+                HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), path(request)));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ExceptionResponse> handleTooManyRequestsException(TooManyRequestsException e, ServerHttpRequest request) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ExceptionResponse.from(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), path(request)));
+    }
+
+    // 요청 본문 검증 실패(WebExchangeBindException) 등은 서블릿 스택과 같이 예외가 가진 상태 코드로 응답
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ExceptionResponse> handleResponseStatusException(ResponseStatusException e, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.valueOf(e.getStatusCode().value());
+        return ResponseEntity.status(status).body(ExceptionResponse.from(status, e.getReason(), path(request)));
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<ExceptionResponse> handleRuntimeException(RuntimeException e, ServerHttpRequest request) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ExceptionResponse.from(
+                HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), path(request)));
+    }
+
+    private static URI path(ServerHttpRequest request) {
+        return URI.create(request.getPath().value());
+    }
+}
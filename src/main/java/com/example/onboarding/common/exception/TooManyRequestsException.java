@@ -0,0 +1,20 @@
+package com.example.onboarding.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // 예상된 거절을 자주 던지는 하위 클래스용. 스택 트레이스를 채우지 않는다
+    protected TooManyRequestsException(String message, long retryAfterSeconds, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.onboarding.common.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬 가능한 64비트 ID 생성기 (Snowflake 형식).
+ * | 0 | 41비트: EPOCH 이후 ms | 10비트: 노드 | 12비트: 같은 ms 안의 순번 |
+ * 같은 ms 에 순번(4096개)을 다 쓰거나 시계가 뒤로 가면 마지막 시각을 이어서 사용하므로
+ * 대기 없이 노드 안에서 항상 증가하는 값을 낸다. 시각과 순번은 하나의 AtomicLong 으로 CAS 갱신한다.
+ */
+public class Snowflake {
+
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 같은 노드 ID 로 생성기를 여러 개 만들면 ID 가 겹칠 수 있으므로 노드별로 하나만 사용
+    private static final Map<Integer, Snowflake> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (EPOCH 이후 ms << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+
+    Snowflake(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public static Snowflake forNode(int nodeId) {
+        return INSTANCES.computeIfAbsent(nodeId, id -> new Snowflake(id, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = state.get();
+            next = Math.max(now, previous + 1);
+        } while (!state.compareAndSet(previous, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        return timestamp << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.onboarding.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 DB 왕복 없이 애플리케이션에서 Snowflake 형식으로 발급.
+ * IDENTITY 와 달리 INSERT 를 미룰 수 있어 JDBC 배치가 동작한다.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
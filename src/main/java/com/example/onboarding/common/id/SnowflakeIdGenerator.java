@@ -0,0 +1,47 @@
+package com.example.onboarding.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * {@link SnowflakeId} 의 Hibernate 식별자 생성기.
+ * 노드 ID 는 spring.jpa.properties.onboarding.id.node-id (환경 변수 NODE_ID) 로 지정해야 하며, 없으면 기동하지 않는다.
+ * local, test 프로파일은 노드 ID 0 을 기본값으로 둔다.
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "onboarding.id.node-id";
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, GeneratorCreationContext context) {
+        ConfigurationService configurationService = context.getServiceRegistry().getService(ConfigurationService.class);
+        Object configured = configurationService != null ? configurationService.getSettings().get(NODE_ID_SETTING) : null;
+        this.snowflake = Snowflake.forNode(resolveNodeId(configured));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return snowflake.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static int resolveNodeId(Object configured) {
+        if (configured != null && !configured.toString().isBlank()) {
+            return Integer.parseInt(configured.toString().trim());
+        }
+        // 노드 ID 가 겹치면 같은 ms 에 같은 ID 가 나올 수 있으므로 추측하지 않고 기동을 멈춘다
+        throw new IllegalStateException(NODE_ID_SETTING + " (환경 변수 NODE_ID) 를 노드마다 다르게 설정해야 합니다.");
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.onboarding.user.controller;
+
+import com.example.onboarding.common.dto.AuthUser;
+import com.example.onboarding.user.dto.UserResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveUserController {
+
+    @GetMapping("/test")
+    public Mono<ResponseEntity<UserResponse>> test(@AuthenticationPrincipal AuthUser authUser) {
+        return Mono.just(ResponseEntity.ok(new UserResponse(authUser)));
+    }
+}
@@ -4,12 +4,14 @@ import com.example.onboarding.common.dto.AuthUser;
 import com.example.onboarding.user.dto.UserResponse;
 import com.example.onboarding.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class UserController {
 
@@ -0,0 +1,33 @@
+package com.example.onboarding.user.controller;
+
+import com.example.onboarding.user.enums.UserImportFormat;
+import com.example.onboarding.user.enums.UserRole;
+import com.example.onboarding.user.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    // 본문을 읽는 대로 처리하고 줄마다 결과를 NDJSON 으로 응답
+    @Operation(summary = "대량 회원가입 API (NDJSON 또는 CSV)") // api 문서화
+    @Secured(UserRole.Authority.ADMIN)
+    @PostMapping(value = "/admin/users/import", consumes = {UserImportFormat.NDJSON_VALUE, "text/csv"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserImportFormat format = UserImportFormat.of(MediaType.parseMediaType(request.getContentType()));
+        userImportService.importUsers(request.getInputStream(), format, response);
+    }
+}
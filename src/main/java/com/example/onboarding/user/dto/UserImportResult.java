@@ -0,0 +1,18 @@
+package com.example.onboarding.user.dto;
+
+import com.example.onboarding.user.enums.UserImportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 대량 가입 결과 한 줄. line 은 업로드 본문의 줄 번호 (CSV 헤더 포함, 1부터)
+@Getter
+@RequiredArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResult {
+
+    private final long line;
+    private final String username;
+    private final UserImportStatus status;
+    private final String message;
+}
@@ -2,6 +2,7 @@ package com.example.onboarding.user.entity;
 
 import com.example.onboarding.auth.dto.request.SignupRequest;
 import com.example.onboarding.common.dto.Timestamped;
+import com.example.onboarding.common.id.SnowflakeId;
 import com.example.onboarding.user.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -10,19 +11,26 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
+@EntityListeners(UserChangeListener.class)
+// 로그인 조회(UserRepository.findCredentialsByUsername)를 테이블 접근 없이 인덱스만으로 처리하는 커버링 인덱스
+@Table(indexes = @Index(name = "idx_user_credentials", columnList = "username, password, nickname, user_role"))
 public class User extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId // IDENTITY 는 INSERT 마다 즉시 실행되어 JDBC 배치가 꺼지므로 애플리케이션에서 발급
     private Long id;
 
-    @Column(unique = true)
+    // 커버링 인덱스 키 길이(utf8mb4 3072 바이트 제한)를 위해 가입 검증 범위에 맞춘 길이
+    @Column(unique = true, length = 20)
     private String username;
 
+    @Column(length = 60) // BCrypt 해시
     private String password;
 
+    @Column(length = 10)
     private String nickname;
 
+    @Column(length = 20)
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
 
@@ -36,4 +44,8 @@ public class User extends Timestamped {
     public static User from(SignupRequest signupRequest, String encodedPassword) {
         return new User(signupRequest, encodedPassword);
     }
+
+    public void updatePassword(String encodedPassword) {
+        password = encodedPassword;
+    }
 }
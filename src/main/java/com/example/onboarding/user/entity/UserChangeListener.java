@@ -0,0 +1,28 @@
+package com.example.onboarding.user.entity;
+
+import com.example.onboarding.user.service.UserCredentialCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 감지로 User 가 수정/삭제되면 로그인 캐시를 무효화한다.
+ * JPQL 벌크 업데이트는 엔티티 콜백을 거치지 않으므로 호출한 쪽에서 직접 무효화해야 한다 (UserService.changePasswordHash).
+ */
+@Component
+public class UserChangeListener {
+
+    // Hibernate 가 EntityManagerFactory 를 만드는 중에 이 리스너를 생성하므로 캐시는 사용 시점에 찾는다
+    private final ObjectProvider<UserCredentialCache> userCredentialCache;
+
+    public UserChangeListener(ObjectProvider<UserCredentialCache> userCredentialCache) {
+        this.userCredentialCache = userCredentialCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        userCredentialCache.ifAvailable(cache -> cache.invalidate(user.getUsername()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.onboarding.user.entity;
+
+import com.example.onboarding.auth.dto.request.SignupRequest;
+import com.example.onboarding.user.enums.UserRole;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리액티브 스택(R2DBC)에서 사용하는 user 테이블 매핑. 테이블 구조는 JPA 엔티티 {@link User} 가 관리한다.
+ * ID 는 애플리케이션에서 미리 발급하므로 INSERT/UPDATE 여부를 {@link Persistable#isNew()} 로 알려준다.
+ */
+@Getter
+@Table("user")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRecord implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    private String username;
+
+    private String password;
+
+    private String nickname;
+
+    private UserRole userRole;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime modifiedAt;
+
+    @Transient
+    private boolean newRecord;
+
+    private UserRecord(Long id, SignupRequest signupRequest, String encodedPassword) {
+        this.id = id;
+        username = signupRequest.getUsername();
+        password = encodedPassword;
+        nickname = signupRequest.getNickname();
+        userRole = UserRole.ROLE_USER;
+        newRecord = true;
+    }
+
+    public static UserRecord from(Long id, SignupRequest signupRequest, String encodedPassword) {
+        return new UserRecord(id, signupRequest, encodedPassword);
+    }
+
+    public void updatePassword(String encodedPassword) {
+        password = encodedPassword;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+}
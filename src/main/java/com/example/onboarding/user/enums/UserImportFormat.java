@@ -0,0 +1,21 @@
+package com.example.onboarding.user.enums;
+
+import com.example.onboarding.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum UserImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static UserImportFormat of(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+            return NDJSON;
+        }
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return CSV;
+        }
+        throw new InvalidRequestException("지원하지 않는 형식입니다. application/x-ndjson 또는 text/csv 로 요청해주세요.");
+    }
+}
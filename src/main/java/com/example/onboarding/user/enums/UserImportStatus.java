@@ -0,0 +1,8 @@
+package com.example.onboarding.user.enums;
+
+public enum UserImportStatus {
+    CREATED,
+    DUPLICATE, // 이미 가입된 username 이거나 같은 업로드 안에서 중복
+    INVALID,   // 형식 또는 입력값 검증 실패
+    FAILED     // 저장 중 오류
+}
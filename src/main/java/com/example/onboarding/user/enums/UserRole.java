@@ -9,10 +9,12 @@ import java.util.Arrays;
 @Getter
 @RequiredArgsConstructor
 public enum UserRole {
-    ROLE_ADMIN(Authority.ADMIN),
-    ROLE_USER(Authority.USER);
+    ROLE_ADMIN(Authority.ADMIN, 1),
+    ROLE_USER(Authority.USER, 0);
 
     private final String userRole;
+    // compact 토큰(AccessTokenFormat.COMPACT)에 넣는 값. 발급된 토큰이 있으므로 바꾸지 않는다
+    private final int code;
 
     public static UserRole of(String role) {
         return Arrays.stream(UserRole.values())
@@ -21,6 +23,15 @@ public enum UserRole {
                 .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
     }
 
+    public static UserRole ofCode(int code) {
+        for (UserRole role : values()) {
+            if (role.code == code) {
+                return role;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
+    }
+
     public static class Authority {
         public static final String USER = "ROLE_USER";
         public static final String ADMIN = "ROLE_ADMIN";
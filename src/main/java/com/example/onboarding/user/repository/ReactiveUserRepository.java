@@ -0,0 +1,12 @@
+package com.example.onboarding.user.repository;
+
+import com.example.onboarding.user.entity.UserRecord;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, Long> {
+
+    Mono<Boolean> existsByUsername(String username);
+
+    Mono<UserRecord> findByUsername(String username);
+}
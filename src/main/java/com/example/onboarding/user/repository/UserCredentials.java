@@ -0,0 +1,9 @@
+package com.example.onboarding.user.repository;
+
+import com.example.onboarding.user.enums.UserRole;
+
+/**
+ * 로그인에 필요한 사용자 정보만 읽는 projection. 영속성 컨텍스트 밖에서 캐시하고 전달하는 불변 값
+ */
+public record UserCredentials(Long id, String username, String password, String nickname, UserRole userRole) {
+}
@@ -1,8 +1,15 @@
 package com.example.onboarding.user.repository;
 
 import com.example.onboarding.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +17,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     Optional<User> findByUsername(String username);
+
+    // 로그인용. 엔티티 대신 값만 읽어 영속성 컨텍스트에 올리지 않고, idx_user_credentials 만으로 처리된다
+    @Query("select new com.example.onboarding.user.repository.UserCredentials(u.id, u.username, u.password, u.nickname, u.userRole) " +
+            "from User u where u.username = :username")
+    Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
+    // 대량 가입의 청크 단위 중복 확인 (username 유니크 인덱스 조회)
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
+    // id 기준 keyset 페이지. OFFSET 없이 PK 인덱스 범위 스캔으로 읽는다
+    @Query("select new com.example.onboarding.user.repository.UsernameRow(u.id, u.username) " +
+            "from User u where u.id > :lastId order by u.id")
+    List<UsernameRow> findUsernamesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 엔티티를 다시 읽지 않고 primary 에 바로 쓴다. 벌크 업데이트라 Auditing 이 적용되지 않아 modifiedAt 을 직접 넘긴다
+    @Modifying
+    @Query("update User u set u.password = :password, u.modifiedAt = :modifiedAt where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password,
+                       @Param("modifiedAt") LocalDateTime modifiedAt);
 }
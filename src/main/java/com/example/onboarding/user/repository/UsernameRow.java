@@ -0,0 +1,7 @@
+package com.example.onboarding.user.repository;
+
+/**
+ * username 목록을 id 순서로 나눠 읽기 위한 projection
+ */
+public record UsernameRow(Long id, String username) {
+}
@@ -0,0 +1,199 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.common.cache.ExpiringLruCache;
+import com.example.onboarding.user.repository.UserCredentials;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 시 username 으로 조회한 사용자 정보를 노드 로컬에 보관한다.
+ * 사용자 행이 바뀌면 커밋 후 Redis pub/sub 무효화 메시지("nodeId:발행 시각:username")로 모든 노드에서 제거되고,
+ * 메시지를 놓치더라도 TTL 이 지나면 만료된다. 없는 사용자는 캐시하지 않는다 (가입 직후 바로 보이도록).
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class UserCredentialCache implements MessageListener, DisposableBean {
+
+    public static final String INVALIDATION_CHANNEL = "user-credential:invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final ExpiringLruCache<String, Entry> cache;
+
+    // 무효화가 있을 때마다 증가. 조회 도중 무효화가 있었다면 그 결과는 캐시하지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Timer age;
+    private final Timer invalidationLag;
+
+    public UserCredentialCache(
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${user.credential-cache.enabled:true}") boolean enabled,
+            @Value("${user.credential-cache.max-size:10000}") int maxSize,
+            @Value("${user.credential-cache.ttl:5m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.cache = new ExpiringLruCache<>(maxSize);
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+
+        FunctionCounter.builder("user.credential.cache.requests", cache, ExpiringLruCache::getHitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.credential.cache.requests", cache, ExpiringLruCache::getMissCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.credential.cache.evictions", cache, ExpiringLruCache::getEvictionCount)
+                .tag("cause", "size")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.credential.cache.evictions", cache, ExpiringLruCache::getExpirationCount)
+                .tag("cause", "expired")
+                .register(meterRegistry);
+        Gauge.builder("user.credential.cache.hit.ratio", cache, ExpiringLruCache::getHitRatio)
+                .register(meterRegistry);
+        Gauge.builder("user.credential.cache.size", cache, ExpiringLruCache::size)
+                .register(meterRegistry);
+        this.age = Timer.builder("user.credential.cache.age")
+                .description("Age of the cached entry served on a hit (upper bound of staleness)")
+                .register(meterRegistry);
+        this.invalidationLag = Timer.builder("user.credential.cache.invalidation.lag")
+                .description("Delay between publishing an invalidation and receiving it on another node")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    public Optional<UserCredentials> get(String username, Supplier<Optional<UserCredentials>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = key(username);
+        long now = System.currentTimeMillis();
+        Entry cached = cache.get(key, now);
+        if (cached != null) {
+            age.record(now - cached.loadedAt(), TimeUnit.MILLISECONDS);
+            return Optional.of(cached.credentials());
+        }
+        long epoch = invalidations.get();
+        Optional<UserCredentials> loaded = loader.get();
+        if (loaded.isPresent() && invalidations.get() == epoch) {
+            cache.put(key, new Entry(loaded.get(), now), now + ttlMillis);
+        }
+        return loaded;
+    }
+
+    // 사용자 행을 바꾼 뒤 호출. 트랜잭션 안이면 커밋 후에 다시 한 번 제거하고 다른 노드에 알린다
+    public void invalidate(String username) {
+        if (!enabled) {
+            return;
+        }
+        String key = key(username);
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                    publish(key);
+                }
+            });
+        } else {
+            publish(key);
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int nodeEnd = body.indexOf(':');
+        int timeEnd = nodeEnd < 0 ? -1 : body.indexOf(':', nodeEnd + 1);
+        if (timeEnd < 0) {
+            return;
+        }
+        // 자신이 발행한 메시지는 이미 반영됨
+        if (nodeEnd == nodeId.length() && body.startsWith(nodeId)) {
+            return;
+        }
+        try {
+            long publishedAt = Long.parseLong(body, nodeEnd + 1, timeEnd, 10);
+            invalidationLag.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        evict(body.substring(timeEnd + 1));
+    }
+
+    public ExpiringLruCache<String, Entry> getCache() {
+        return cache;
+    }
+
+    private void evict(String key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + System.currentTimeMillis() + ":" + key);
+        } catch (RuntimeException e) {
+            // 다른 노드에는 TTL 이 지나야 반영된다
+            log.warn("사용자 캐시 무효화 메시지 발행 실패: username={}", key, e);
+        }
+    }
+
+    // username 유니크 제약과 같이 대소문자 구분 없음
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    public record Entry(UserCredentials credentials, long loadedAt) {
+    }
+}
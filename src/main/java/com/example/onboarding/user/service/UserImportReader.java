@@ -0,0 +1,133 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.auth.dto.request.SignupRequest;
+import com.example.onboarding.common.exception.InvalidRequestException;
+import com.example.onboarding.user.enums.UserImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 가입 본문을 한 줄씩 읽어 SignupRequest 로 변환한다. 본문 전체를 메모리에 올리지 않는다.
+ * NDJSON: 한 줄에 SignupRequest 형태의 JSON 하나.
+ * CSV: 첫 줄은 username, password, nickname 을 포함한 헤더 (순서 무관). 따옴표로 감싼 필드와 "" 이스케이프를 지원하며
+ * 필드 안의 줄바꿈은 지원하지 않는다.
+ */
+public class UserImportReader {
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectReader jsonReader;
+    private long lineNumber;
+    private int usernameIndex;
+    private int passwordIndex;
+    private int nicknameIndex;
+
+    private UserImportReader(BufferedReader reader, UserImportFormat format, ObjectReader jsonReader) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonReader = jsonReader;
+    }
+
+    // CSV 는 헤더까지 읽어 검증한다 (응답을 쓰기 전에 형식 오류를 400 으로 돌려주기 위해)
+    public static UserImportReader open(InputStream inputStream, UserImportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        UserImportReader importReader = new UserImportReader(reader, format, objectMapper.readerFor(SignupRequest.class));
+        if (format == UserImportFormat.CSV) {
+            importReader.readHeader();
+        }
+        return importReader;
+    }
+
+    // 다음 레코드. 빈 줄은 건너뛰고, 본문이 끝나면 null
+    public Record next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            SignupRequest request = format == UserImportFormat.NDJSON ? jsonReader.readValue(line) : parseCsvRecord(line);
+            return new Record(lineNumber, request, null);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return new Record(lineNumber, null, "형식이 올바르지 않습니다.");
+        }
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+        // UTF-8 BOM 제거
+        List<String> columns = parseCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        usernameIndex = columns.indexOf("username");
+        passwordIndex = columns.indexOf("password");
+        nicknameIndex = columns.indexOf("nickname");
+        if (usernameIndex < 0 || passwordIndex < 0 || nicknameIndex < 0) {
+            throw new InvalidRequestException("CSV 헤더에 username, password, nickname 이 필요합니다.");
+        }
+    }
+
+    private SignupRequest parseCsvRecord(String line) {
+        List<String> fields = parseCsvLine(line);
+        int required = Math.max(usernameIndex, Math.max(passwordIndex, nicknameIndex));
+        if (fields.size() <= required) {
+            throw new IllegalArgumentException("column count");
+        }
+        return SignupRequest.builder()
+                .username(fields.get(usernameIndex))
+                .password(fields.get(passwordIndex))
+                .nickname(fields.get(nicknameIndex))
+                .build();
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // request 가 null 이면 error 에 사유
+    public record Record(long line, SignupRequest request, String error) {
+    }
+}
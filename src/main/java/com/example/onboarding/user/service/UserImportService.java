@@ -0,0 +1,292 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.auth.dto.request.SignupRequest;
+import com.example.onboarding.auth.service.PasswordPolicy;
+import com.example.onboarding.common.datasource.ReadYourWrites;
+import com.example.onboarding.common.exception.InvalidRequestException;
+import com.example.onboarding.common.exception.TooManyRequestsException;
+import com.example.onboarding.user.dto.UserImportResult;
+import com.example.onboarding.user.entity.User;
+import com.example.onboarding.user.enums.UserImportFormat;
+import com.example.onboarding.user.enums.UserImportStatus;
+import com.example.onboarding.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자용 대량 회원가입.
+ * 본문을 chunk-size 건씩 읽어 청크마다 검증 → IN 쿼리 한 번으로 중복 확인 → 비밀번호 병렬 해시 → 배치 INSERT 후
+ * 결과를 NDJSON 으로 바로 내보낸다. 메모리에는 한 청크만 올라가므로 업로드 크기와 무관하다.
+ * 해시는 로그인용 PasswordHasher 와 별도의 풀에서 실행해 가입 작업이 로그인 대기열을 채우지 않도록 한다.
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class UserImportService implements DisposableBean {
+
+    private static final String DUPLICATE_MESSAGE = "Already exists username";
+
+    private final UserRepository userRepository;
+    private final UsernameFilter usernameFilter;
+    private final ReadYourWrites readYourWrites;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService hashingExecutor;
+    private final int chunkSize;
+    // 동시에 하나의 가입 작업만 실행 (해시 풀과 DB 를 한 작업이 다 쓰도록)
+    private final Semaphore running = new Semaphore(1);
+
+    public UserImportService(
+            UserRepository userRepository,
+            UsernameFilter usernameFilter,
+            ReadYourWrites readYourWrites,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${user.import.chunk-size:500}") int chunkSize,
+            @Value("${user.import.hashing-threads:0}") int hashingThreads
+    ) {
+        this.userRepository = userRepository;
+        this.usernameFilter = usernameFilter;
+        this.readYourWrites = readYourWrites;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writerFor(UserImportResult.class);
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+
+        // 기본값은 코어의 절반. 나머지는 로그인 해시에 남겨둔다
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void importUsers(InputStream inputStream, UserImportFormat format, HttpServletResponse response) throws IOException {
+        if (!running.tryAcquire()) {
+            throw new TooManyRequestsException("이미 진행 중인 대량 가입 작업이 있습니다.", 60);
+        }
+        try {
+            // 헤더 오류는 응답을 쓰기 전에 400 으로 처리
+            UserImportReader reader = UserImportReader.open(inputStream, format, objectMapper);
+            response.setContentType(UserImportFormat.NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            OutputStream outputStream = response.getOutputStream();
+
+            Map<UserImportStatus, Integer> totals = new EnumMap<>(UserImportStatus.class);
+            List<UserImportReader.Record> chunk = new ArrayList<>(chunkSize);
+            UserImportReader.Record record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    write(importChunk(chunk), outputStream, totals);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(importChunk(chunk), outputStream, totals);
+            }
+            log.info("대량 가입 완료: {}", totals);
+        } finally {
+            running.release();
+        }
+    }
+
+    private UserImportResult[] importChunk(List<UserImportReader.Record> chunk) {
+        UserImportResult[] results = new UserImportResult[chunk.size()];
+
+        // MySQL 기본 collation 과 같이 대소문자를 구분하지 않고 청크 안의 중복 확인
+        Map<String, Integer> candidates = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < chunk.size(); i++) {
+            UserImportReader.Record record = chunk.get(i);
+            SignupRequest request = record.request();
+            if (request == null) {
+                results[i] = result(record, null, UserImportStatus.INVALID, record.error());
+                continue;
+            }
+            String invalidMessage = validate(request);
+            if (invalidMessage != null) {
+                results[i] = result(record, request.getUsername(), UserImportStatus.INVALID, invalidMessage);
+            } else if (candidates.putIfAbsent(request.getUsername(), i) != null) {
+                results[i] = result(record, request.getUsername(), UserImportStatus.DUPLICATE, DUPLICATE_MESSAGE);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return results;
+        }
+
+        // 청크당 IN 쿼리 한 번
+        for (String existing : userRepository.findUsernamesIn(candidates.keySet())) {
+            Integer index = candidates.remove(existing);
+            if (index != null) {
+                UserImportReader.Record record = chunk.get(index);
+                results[index] = result(record, record.request().getUsername(), UserImportStatus.DUPLICATE, DUPLICATE_MESSAGE);
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>(candidates.values());
+        List<String> encodedPasswords = hashPasswords(chunk, indexes);
+        insert(chunk, indexes, encodedPasswords, results);
+        return results;
+    }
+
+    // Bean Validation 후 /signup 과 같은 비밀번호 규칙을 적용한다. 통과하면 null
+    private String validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        try {
+            PasswordPolicy.validate(request.getPassword());
+            return null;
+        } catch (InvalidRequestException e) {
+            return e.getMessage();
+        }
+    }
+
+    private List<String> hashPasswords(List<UserImportReader.Record> chunk, List<Integer> indexes) {
+        List<Future<String>> futures = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            String password = chunk.get(index).request().getPassword();
+            futures.add(hashingExecutor.submit(() -> passwordEncoder.encode(password)));
+        }
+        List<String> encodedPasswords = new ArrayList<>(indexes.size());
+        try {
+            for (Future<String> future : futures) {
+                encodedPasswords.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException(e.getCause());
+        }
+        return encodedPasswords;
+    }
+
+    private void insert(List<UserImportReader.Record> chunk, List<Integer> indexes, List<String> encodedPasswords,
+                        UserImportResult[] results) {
+        try {
+            saveInTransaction(newUsers(chunk, indexes, encodedPasswords));
+            for (int index : indexes) {
+                markCreated(chunk, index, results);
+            }
+            return;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 username 을 먼저 가입시킨 경우: 한 건씩 다시 저장해 실패한 행만 표시
+            log.warn("청크 저장 중 제약 위반, 한 건씩 다시 저장합니다. rows={}", indexes.size());
+        }
+
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            UserImportReader.Record record = chunk.get(index);
+            try {
+                saveInTransaction(List.of(User.from(record.request(), encodedPasswords.get(i))));
+                markCreated(chunk, index, results);
+            } catch (DataIntegrityViolationException e) {
+                results[index] = result(record, record.request().getUsername(), UserImportStatus.DUPLICATE, DUPLICATE_MESSAGE);
+            } catch (RuntimeException e) {
+                log.error("대량 가입 저장 실패: line={}", record.line(), e);
+                results[index] = result(record, record.request().getUsername(), UserImportStatus.FAILED, "저장에 실패했습니다.");
+            }
+        }
+    }
+
+    // 실패 후 재시도할 때 이미 ID 가 할당된 엔티티를 다시 쓰지 않도록 매번 새로 만든다
+    private static List<User> newUsers(List<UserImportReader.Record> chunk, List<Integer> indexes, List<String> encodedPasswords) {
+        List<User> users = new ArrayList<>(indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            users.add(User.from(chunk.get(indexes.get(i)).request(), encodedPasswords.get(i)));
+        }
+        return users;
+    }
+
+    // hibernate.jdbc.batch_size 단위의 배치 INSERT
+    private void saveInTransaction(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                userRepository.saveAllAndFlush(users);
+            } finally {
+                // OSIV 로 요청 내내 같은 영속성 컨텍스트가 유지되므로 청크마다 비워 메모리를 일정하게 유지
+                entityManager.clear();
+            }
+        });
+    }
+
+    private void markCreated(List<UserImportReader.Record> chunk, int index, UserImportResult[] results) {
+        UserImportReader.Record record = chunk.get(index);
+        usernameFilter.add(record.request().getUsername());
+        // 가입 직후 로그인이 아직 복제되지 않은 복제본을 읽지 않도록
+        readYourWrites.recordWrite(record.request().getUsername());
+        results[index] = result(record, record.request().getUsername(), UserImportStatus.CREATED, null);
+    }
+
+    private void write(UserImportResult[] results, OutputStream outputStream, Map<UserImportStatus, Integer> totals)
+            throws IOException {
+        for (UserImportResult result : results) {
+            // writeValue(OutputStream) 는 스트림을 닫으므로 바이트로 직렬화해서 씀
+            outputStream.write(resultWriter.writeValueAsBytes(result));
+            outputStream.write('\n');
+            totals.merge(result.getStatus(), 1, Integer::sum);
+            meterRegistry.counter("user.import.rows", "status", result.getStatus().name()).increment();
+        }
+        // 청크마다 클라이언트로 내보냄
+        outputStream.flush();
+    }
+
+    private static UserImportResult result(UserImportReader.Record record, String username, UserImportStatus status,
+                                           String message) {
+        return new UserImportResult(record.line(), username, status, message);
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdown();
+    }
+}
@@ -1,15 +1,44 @@
 package com.example.onboarding.user.service;
 
+import com.example.onboarding.common.datasource.ReadYourWrites;
 import com.example.onboarding.common.dto.AuthUser;
 import com.example.onboarding.user.dto.UserResponse;
+import com.example.onboarding.user.repository.UserCredentials;
+import com.example.onboarding.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Service
+@Profile("!reactive")
+@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private final UserRepository userRepository;
+    private final ReadYourWrites readYourWrites;
+    private final UserCredentialCache userCredentialCache;
+
     public UserResponse getUser(AuthUser authUser) {
         return new UserResponse(authUser);
     }
+
+    // 커넥션은 이 조회 동안만 사용한다 (라우팅이 켜져 있으면 복제본, 최근에 쓴 사용자는 primary)
+    public Optional<UserCredentials> findCredentials(String username) {
+        readYourWrites.routeToPrimaryIfRecentlyWritten(username);
+        return userRepository.findCredentialsByUsername(username);
+    }
+
+    // 읽기 전용(복제본) 트랜잭션 안에서 호출해도 별도의 쓰기 트랜잭션으로 primary 에 저장한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void changePasswordHash(Long userId, String username, String encodedPassword) {
+        userRepository.updatePassword(userId, encodedPassword, LocalDateTime.now());
+        readYourWrites.recordWrite(username);
+        userCredentialCache.invalidate(username);
+    }
 }
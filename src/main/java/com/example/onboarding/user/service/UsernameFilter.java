@@ -0,0 +1,109 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.common.bloom.BloomFilter;
+import com.example.onboarding.user.repository.UserRepository;
+import com.example.onboarding.user.repository.UsernameRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 가입된 username 의 Bloom filter.
+ * 시작 시 username 컬럼을 id 순서로 나눠 읽어 적재하고, 가입 성공 시마다 추가한다.
+ * "확실히 없음"이면 회원가입의 existsByUsername 조회를 생략한다. 다른 노드에서 가입된 이름은 여기 없을 수 있으므로
+ * 최종 판단은 username 유니크 제약이 한다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class UsernameFilter {
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private final int loadChunkSize;
+
+    // 적재가 끝나기 전에는 "없음"을 보장할 수 없으므로 항상 DB 에서 확인
+    private volatile boolean loaded;
+
+    private final Counter skipped;
+    private final Counter checked;
+
+    public UsernameFilter(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.username-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.username-filter.fpp:0.01}") double fpp,
+            @Value("${user.username-filter.load-chunk-size:10000}") int loadChunkSize
+    ) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+        this.loadChunkSize = loadChunkSize;
+
+        this.skipped = Counter.builder("auth.signup.username.check.skipped")
+                .description("Signups whose existsByUsername query was skipped by the Bloom filter")
+                .register(meterRegistry);
+        this.checked = Counter.builder("auth.signup.username.check.queried")
+                .description("Signups that needed an existsByUsername query")
+                .register(meterRegistry);
+        Gauge.builder("auth.signup.username.bloom.memory", filter, BloomFilter::getMemoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("auth.signup.username.bloom.entries", filter, BloomFilter::getInsertions)
+                .register(meterRegistry);
+        Gauge.builder("auth.signup.username.bloom.fpp.estimated", filter, BloomFilter::getEstimatedFpp)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("username Bloom filter 적재 실패, 모든 회원가입에서 DB 조회를 수행합니다.", e);
+        }
+    }
+
+    // false 면 가입된 적이 없는 username (이 노드 기준)
+    public boolean mightExist(String username) {
+        if (loaded && !filter.mightContain(username)) {
+            skipped.increment();
+            return false;
+        }
+        checked.increment();
+        return true;
+    }
+
+    public void add(String username) {
+        filter.put(username);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    void load() {
+        long lastId = 0;
+        long count = 0;
+        List<UsernameRow> chunk;
+        do {
+            chunk = userRepository.findUsernamesAfter(lastId, PageRequest.of(0, loadChunkSize));
+            for (UsernameRow row : chunk) {
+                filter.put(row.username());
+                lastId = row.id();
+            }
+            count += chunk.size();
+        } while (chunk.size() == loadChunkSize);
+        loaded = true;
+
+        log.info("username Bloom filter 적재 완료: entries={}, memory={}KB, hashes={}",
+                count, filter.getMemoryBytes() / 1024, filter.getHashFunctions());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.onboarding.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서블릿/리액티브 스택이 모두 통과해야 하는 회원가입 → 로그인 → 인증 요청 시나리오.
+ * 두 스택 모두 실제 서버(RANDOM_PORT)에 WebTestClient 로 요청한다.
+ * MySQL 과 Redis 가 필요하므로 접속 정보(.env 또는 환경 변수)가 없으면 건너뛴다.
+ */
+abstract class AuthFlowBehaviorTest {
+
+    private static final String PASSWORD = "Password123!";
+    private static final String NICKNAME = "tester";
+
+    @Autowired
+    private WebTestClient client;
+
+    private String username;
+
+    static boolean infrastructureAvailable() {
+        return System.getenv("RDS_ENDPOINT") != null || Files.exists(Path.of(".env"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 반복 실행해도 겹치지 않도록 임의의 username 사용 (4-20자)
+        username = "flow" + ThreadLocalRandom.current().nextLong(1_000_000_000L, 10_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("회원가입 성공 시 201 과 사용자 정보를 반환한다")
+    void signup() {
+        // when & then
+        signupRequest(username, PASSWORD)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo(username)
+                .jsonPath("$.nickname").isEqualTo(NICKNAME)
+                .jsonPath("$.authorities[0].authority").isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("이미 가입된 username 으로 가입하면 400")
+    void signupDuplicate() {
+        // given
+        signupRequest(username, PASSWORD).exchange().expectStatus().isCreated();
+
+        // when & then
+        signupRequest(username, PASSWORD)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Already exists username");
+    }
+
+    @Test
+    @DisplayName("요청 본문 검증에 실패하면 400")
+    void signupInvalidBody() {
+        // when & then
+        signupRequest("ab", PASSWORD)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 Bearer 토큰과 인증 쿠키를 반환한다")
+    void sign() {
+        // given
+        signupRequest(username, PASSWORD).exchange().expectStatus().isCreated();
+
+        // when
+        var result = signRequest(username, PASSWORD)
+                .exchange()
+                .expectStatus().isOk()
+                .expectCookie().exists("Authorization")
+                .expectCookie().exists("refreshToken")
+                .expectBody(Map.class)
+                .returnResult();
+
+        // then
+        assertThat((String) result.getResponseBody().get("token")).startsWith("Bearer ");
+        ResponseCookie cookie = result.getResponseCookies().getFirst("Authorization");
+        assertThat(cookie.isHttpOnly()).isTrue();
+        // JWT 가 인코딩 없이 그대로 쿠키 값이 되고, 쿠키마다 Set-Cookie 헤더는 하나
+        assertThat(cookie.getValue()).startsWith("eyJ");
+        assertThat(result.getResponseHeaders().get(HttpHeaders.SET_COOKIE)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 400")
+    void signWrongPassword() {
+        // given
+        signupRequest(username, PASSWORD).exchange().expectStatus().isCreated();
+
+        // when & then
+        signRequest(username, "Wrong123!")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid password");
+    }
+
+    @Test
+    @DisplayName("인증 쿠키 없이 보호된 API 를 호출하면 403")
+    void testWithoutToken() {
+        // when & then
+        client.get().uri("/test")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    @DisplayName("로그인 쿠키로 보호된 API 를 호출하면 토큰의 사용자 정보를 반환한다")
+    void testWithToken() {
+        // given
+        signupRequest(username, PASSWORD).exchange().expectStatus().isCreated();
+        ResponseCookie cookie = signRequest(username, PASSWORD)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Void.class)
+                .getResponseCookies().getFirst("Authorization");
+
+        // when & then
+        client.get().uri("/test")
+                .cookie("Authorization", cookie.getValue())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo(username)
+                .jsonPath("$.nickname").isEqualTo(NICKNAME);
+    }
+
+    private WebTestClient.RequestHeadersSpec<?> signupRequest(String username, String password) {
+        return client.post().uri("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", password, "nickname", NICKNAME));
+    }
+
+    private WebTestClient.RequestHeadersSpec<?> signRequest(String username, String password) {
+        return client.post().uri("/sign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", password));
+    }
+}
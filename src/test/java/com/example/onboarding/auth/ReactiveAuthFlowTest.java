@@ -0,0 +1,13 @@
+package com.example.onboarding.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DisplayName("리액티브 스택 인증 흐름")
+@ActiveProfiles({"reactive", "test"})
+@EnabledIf("com.example.onboarding.auth.AuthFlowBehaviorTest#infrastructureAvailable")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveAuthFlowTest extends AuthFlowBehaviorTest {
+}
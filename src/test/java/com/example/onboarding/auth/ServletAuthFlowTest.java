@@ -0,0 +1,13 @@
+package com.example.onboarding.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DisplayName("서블릿 스택 인증 흐름")
+@ActiveProfiles("test")
+@EnabledIf("com.example.onboarding.auth.AuthFlowBehaviorTest#infrastructureAvailable")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServletAuthFlowTest extends AuthFlowBehaviorTest {
+}
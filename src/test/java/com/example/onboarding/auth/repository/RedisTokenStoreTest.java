@@ -0,0 +1,127 @@
+package com.example.onboarding.auth.repository;
+
+import com.example.onboarding.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬에서 띄운 Redis (기본 localhost:6379) 로 세션 해시와 Lua 스크립트를 확인한다.
+ * Redis 가 없으면 건너뛴다.
+ */
+class RedisTokenStoreTest {
+
+    private static final String HOST = System.getProperty("redis.host", "localhost");
+    private static final int PORT = Integer.getInteger("redis.port", 6379);
+    private static final int MAX_SESSIONS = 3;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisTokenStore tokenStore;
+    private String userId;
+    private TokenClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(redisAvailable(), "로컬 Redis 가 필요합니다");
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(HOST, PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        tokenStore = new RedisTokenStore(redisTemplate, new ReactiveStringRedisTemplate(connectionFactory), MAX_SESSIONS);
+        // 실제 사용자와 겹치지 않도록 큰 임의의 ID 사용
+        long id = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        userId = Long.toString(id);
+        claims = new TokenClaims(id, "session-test", "nickname", UserRole.ROLE_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory == null) {
+            return;
+        }
+        tokenStore.deleteTokens(userId);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("기기마다 세션이 추가되고, 최대 개수를 넘으면 가장 오래된 세션이 제거됨")
+    void evictOldestSession() throws InterruptedException {
+        // given
+        for (int i = 1; i <= MAX_SESSIONS; i++) {
+            tokenStore.saveTokens(claims, "session-" + i, "access-" + i, "refresh-" + i);
+            Thread.sleep(2); // 생성 시각이 겹치지 않도록
+        }
+
+        // when
+        tokenStore.saveTokens(claims, "session-4", "access-4", "refresh-4");
+
+        // then
+        assertThat(tokenStore.findSessions(userId)).extracting(TokenSession::sessionId)
+                .containsExactly("session-2", "session-3", "session-4");
+        assertThat(tokenStore.rotateRefreshToken(userId, "session-1", "refresh-1", "refresh-5")).isEmpty();
+        assertThat(redisTemplate.opsForHash().size(RedisTokenStore.sessionsKey(userId)))
+                .isEqualTo(MAX_SESSIONS + 3L); // 세션 + username, nickname, userRole
+    }
+
+    @Test
+    @DisplayName("세션별로 Refresh Token 을 교체하고 다른 세션에는 영향이 없음")
+    void rotatePerSession() {
+        // given
+        tokenStore.saveTokens(claims, "session-1", "access-1", "refresh-1");
+        tokenStore.saveTokens(claims, "session-2", "access-2", "refresh-2");
+
+        // when
+        Optional<TokenClaims> rotated = tokenStore.rotateRefreshToken(userId, "session-1", "refresh-1", "refresh-1b");
+        Optional<TokenClaims> wrongSession = tokenStore.rotateRefreshToken(userId, "session-2", "refresh-1b", "refresh-x");
+
+        // then
+        assertThat(rotated).contains(claims);
+        assertThat(wrongSession).isEmpty();
+        assertThat(tokenStore.findSessions(userId))
+                .extracting(TokenSession::sessionId, TokenSession::refreshToken, TokenSession::accessToken)
+                .containsExactlyInAnyOrder(
+                        tuple("session-1", "refresh-1b", "access-1"),
+                        tuple("session-2", "refresh-2", "access-2"));
+    }
+
+    @Test
+    @DisplayName("세션 하나 폐기와 전체 폐기")
+    void revokeSessions() {
+        // given
+        tokenStore.saveTokens(claims, "session-1", "access-1", "refresh-1");
+        tokenStore.saveTokens(claims, "session-2", "access-2", "refresh-2");
+
+        // when & then
+        tokenStore.deleteSession(userId, "session-1");
+        assertThat(tokenStore.findSessions(userId)).extracting(TokenSession::sessionId).containsExactly("session-2");
+
+        tokenStore.deleteTokens(userId);
+        assertThat(tokenStore.findSessions(userId)).isEmpty();
+        assertThat(redisTemplate.hasKey(RedisTokenStore.sessionsKey(userId))).isFalse();
+    }
+
+    private static boolean redisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(HOST, PORT), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.onboarding.auth.repository;
+
+import com.example.onboarding.common.exception.TokenStorageException;
+import com.example.onboarding.user.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteBehindTokenStoreTest {
+
+    private FlakyTokenStore delegate;
+    private WriteBehindTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new FlakyTokenStore();
+        // 재시도 주기를 길게 두고 테스트에서 직접 retryPending 호출
+        tokenStore = new WriteBehindTokenStore(delegate, 1, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.destroy();
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 쓰기를 보관했다가 복구 후 재저장")
+    void deferAndRetry() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+        assertThat(tokenStore.getPendingCount()).isEqualTo(1);
+        assertThat(tokenStore.findSessions("1")).extracting(TokenSession::accessToken).containsExactly("access");
+
+        // when
+        delegate.failing = false;
+        tokenStore.retryPending();
+
+        // then
+        assertThat(tokenStore.getPendingCount()).isZero();
+        assertThat(delegate.findSessions("1"))
+                .extracting(TokenSession::sessionId, TokenSession::accessToken, TokenSession::refreshToken)
+                .containsExactly(tuple("session-1", "access", "refresh"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 예외 발생")
+    void rejectWhenFull() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+
+        // when & then
+        assertThrows(TokenStorageException.class,
+                () -> tokenStore.saveTokens(claims(2L), "session-2", "access", "refresh"));
+    }
+
+    @Test
+    @DisplayName("같은 세션의 새 쓰기가 밀린 쓰기를 대체")
+    void newerWriteReplacesPending() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "old-access", "old-refresh");
+
+        // when
+        delegate.failing = false;
+        tokenStore.saveTokens(claims(1L), "session-1", "new-access", "new-refresh");
+        tokenStore.retryPending();
+
+        // then
+        assertThat(delegate.findSessions("1")).extracting(TokenSession::accessToken).containsExactly("new-access");
+    }
+
+    @Test
+    @DisplayName("밀린 쓰기의 Refresh Token 으로 교체 가능하고 재저장 시 교체된 토큰이 반영됨")
+    void rotatePendingRefreshToken() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+
+        // when
+        Optional<TokenClaims> rotated = tokenStore.rotateRefreshToken("1", "session-1", "refresh", "rotated");
+        Optional<TokenClaims> replayed = tokenStore.rotateRefreshToken("1", "session-1", "refresh", "rotated-again");
+        delegate.failing = false;
+        tokenStore.retryPending();
+
+        // then
+        assertThat(rotated).contains(claims(1L));
+        assertThat(replayed).isEmpty();
+        assertThat(delegate.findSessions("1")).extracting(TokenSession::refreshToken).containsExactly("rotated");
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃은 밀린 쓰기도 함께 버림")
+    void deleteTokensDropsPending() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+
+        // when
+        tokenStore.deleteTokens("1");
+        delegate.failing = false;
+        tokenStore.retryPending();
+
+        // then
+        assertThat(tokenStore.getPendingCount()).isZero();
+        assertThat(delegate.findSessions("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재저장 중에 로그아웃하면 세션을 되살리지 않음")
+    void logoutDuringRetryIsNotResurrected() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+        delegate.failing = false;
+        delegate.beforeSave = () -> tokenStore.deleteSession("1", "session-1");
+
+        // when
+        tokenStore.retryPending();
+
+        // then
+        assertThat(tokenStore.getPendingCount()).isZero();
+        assertThat(delegate.findSessions("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재저장이 실패해도 그 사이 전체 로그아웃한 쓰기는 다시 대기열에 넣지 않음")
+    void failedRetryAfterLogoutIsNotRequeued() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+        delegate.beforeSave = () -> tokenStore.deleteTokens("1");
+
+        // when
+        tokenStore.retryPending();
+        delegate.failing = false;
+        delegate.beforeSave = null;
+        tokenStore.retryPending();
+
+        // then
+        assertThat(tokenStore.getPendingCount()).isZero();
+        assertThat(delegate.findSessions("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재저장 중에도 교체는 대기열의 쓰기를 기준으로 하고, 교체된 토큰은 다음 주기에 저장")
+    void rotateDuringRetrySeesPendingWrite() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+        delegate.failing = false;
+        AtomicReference<Optional<TokenClaims>> rotated = new AtomicReference<>();
+        delegate.beforeSave = () -> rotated.set(tokenStore.rotateRefreshToken("1", "session-1", "refresh", "rotated"));
+
+        // when
+        tokenStore.retryPending();
+        delegate.beforeSave = null;
+
+        // then
+        assertThat(rotated.get()).contains(claims(1L));
+        assertThat(tokenStore.getPendingCount()).isEqualTo(1);
+
+        tokenStore.retryPending();
+        assertThat(tokenStore.getPendingCount()).isZero();
+        assertThat(delegate.findSessions("1")).extracting(TokenSession::refreshToken).containsExactly("rotated");
+    }
+
+    @Test
+    @DisplayName("밀린 쓰기는 Refresh Token 수명까지 보관")
+    void pendingWriteLivesAsLongAsRefreshToken() {
+        // given
+        delegate.failing = true;
+        tokenStore.saveTokens(claims(1L), "session-1", "access", "refresh");
+
+        // when
+        tokenStore.saveAccessToken("1", "session-1", "new-access");
+        TokenSession session = tokenStore.findSessions("1").get(0);
+
+        // then
+        assertThat(session.accessToken()).isEqualTo("new-access");
+        assertThat(session.expiresAt() - session.createdAt()).isEqualTo(TokenStore.REFRESH_TOKEN_TTL.toMillis());
+    }
+
+    private static TokenClaims claims(Long userId) {
+        return new TokenClaims(userId, "user" + userId, "nickname", UserRole.ROLE_USER);
+    }
+
+    private static class FlakyTokenStore extends InMemoryTokenStore {
+
+        private volatile boolean failing;
+        // 재저장 도중 다른 요청이 끼어드는 상황을 재현
+        private volatile Runnable beforeSave;
+
+        @Override
+        public void saveTokens(TokenClaims claims, String sessionId, String accessToken, String refreshToken) {
+            if (beforeSave != null) {
+                beforeSave.run();
+            }
+            if (failing) {
+                throw new TokenStorageException("토큰 저장에 실패했습니다.");
+            }
+            super.saveTokens(claims, sessionId, accessToken, refreshToken);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.onboarding.auth.service;
+
+import com.example.onboarding.common.exception.LoginFailedException;
+import com.example.onboarding.common.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(redisTemplate, meterRegistry, 10, 100, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("한도 미만이면 통과")
+    void allowed() {
+        // given
+        doReturn(0L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when & then
+        assertThatCode(() -> loginThrottle.acquire("user@test.com", "10.0.0.1")).doesNotThrowAnyException();
+        assertThat(count("allowed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("username 한도를 넘으면 거절하고, 같은 username 은 창이 끝날 때까지 Redis 없이 거절")
+    void rejectedThenLocal() {
+        // given
+        doReturn(1L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when
+        LoginThrottledException first = catchThrowableOfType(
+                () -> loginThrottle.acquire("User@Test.com", "10.0.0.1"), LoginThrottledException.class);
+        LoginThrottledException second = catchThrowableOfType(
+                () -> loginThrottle.acquire("user@test.com", "10.0.0.2"), LoginThrottledException.class);
+
+        // then
+        assertThat(first.getRetryAfterSeconds()).isBetween(1L, 60L);
+        assertThat(second).isNotNull();
+        assertThat(count("rejected_username")).isEqualTo(1);
+        assertThat(count("rejected_local")).isEqualTo(1);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("IP 한도를 넘으면 같은 IP 의 다른 username 도 거절")
+    void rejectedByIp() {
+        // given
+        doReturn(2L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        catchThrowableOfType(() -> loginThrottle.acquire("a@test.com", "10.0.0.1"), LoginThrottledException.class);
+
+        // when & then
+        assertThat(catchThrowableOfType(() -> loginThrottle.acquire("b@test.com", "10.0.0.1"),
+                LoginThrottledException.class)).isNotNull();
+        assertThat(count("rejected_ip")).isEqualTo(1);
+        assertThat(count("rejected_local")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("통과한 시도는 IP 카운터만 올리고, username 카운터는 실패를 기록할 때만 올린다")
+    void onlyFailuresConsumeUsernameBudget() {
+        // given
+        doReturn(0L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when
+        loginThrottle.acquire("User@Test.com", "10.0.0.1");
+        loginThrottle.recordFailure("User@Test.com");
+
+        // then
+        ArgumentCaptor<RedisScript<Long>> scripts = ArgumentCaptor.forClass(RedisScript.class);
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(2)).execute(scripts.capture(), keys.capture(), any(Object[].class));
+        assertThat(scripts.getAllValues().get(0).getScriptAsString())
+                .doesNotContain("redis.call('INCR', KEYS[1])");
+        assertThat(keys.getAllValues().get(1)).hasSize(1);
+        assertThat(keys.getAllValues().get(1).get(0)).startsWith(LoginThrottle.USERNAME_KEY_PREFIX + "user@test.com:");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 로그인을 막지 않는다")
+    void redisFailureAllows() {
+        // given
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when & then
+        assertThatCode(() -> loginThrottle.acquire("user@test.com", "10.0.0.1")).doesNotThrowAnyException();
+        assertThat(count("error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상된 인증 실패 예외는 스택 트레이스를 만들지 않는다")
+    void stacklessExceptions() {
+        assertThat(new LoginThrottledException(1).getStackTrace()).isEmpty();
+        assertThat(LoginFailedException.INVALID_PASSWORD.getStackTrace()).isEmpty();
+        assertThat(LoginFailedException.INVALID_PASSWORD.toResponse().getPath()).hasToString("/sign");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("auth.login.throttle").tag("result", result).counter().count();
+    }
+}
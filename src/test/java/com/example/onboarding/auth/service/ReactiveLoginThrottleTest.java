@@ -0,0 +1,93 @@
+package com.example.onboarding.auth.service;
+
+import com.example.onboarding.common.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLoginThrottleTest {
+
+    @Mock
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveLoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new ReactiveLoginThrottle(redisTemplate, meterRegistry, 10, 100, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("서블릿 스택과 같은 키와 스크립트로 확인하고, 한도 미만이면 통과")
+    void allowed() {
+        // given
+        doReturn(Flux.just(0L)).when(redisTemplate).execute(any(RedisScript.class), anyList(), anyList());
+
+        // when
+        loginThrottle.acquire("User@Test.com", "10.0.0.1").block();
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), anyList());
+        assertThat(keys.getValue().get(0)).startsWith(LoginThrottle.USERNAME_KEY_PREFIX + "user@test.com:");
+        assertThat(keys.getValue().get(2)).startsWith(LoginThrottle.IP_KEY_PREFIX + "10.0.0.1:");
+        assertThat(count("allowed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 LoginThrottledException 으로 끝나고, 같은 IP 는 Redis 없이 거절")
+    void rejectedThenLocal() {
+        // given
+        doReturn(Flux.just(2L)).when(redisTemplate).execute(any(RedisScript.class), anyList(), anyList());
+
+        // when & then
+        assertThatThrownBy(() -> loginThrottle.acquire("a@test.com", "10.0.0.1").block())
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatThrownBy(() -> loginThrottle.acquire("b@test.com", "10.0.0.1").block())
+                .isInstanceOf(LoginThrottledException.class);
+        assertThat(count("rejected_ip")).isEqualTo(1);
+        assertThat(count("rejected_local")).isEqualTo(1);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 로그인을 막지 않고, 실패 기록 오류도 전파하지 않는다")
+    void redisFailureAllows() {
+        // given
+        doReturn(Flux.error(new RedisConnectionFailureException("down")))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), anyList());
+
+        // when & then
+        assertThatCode(() -> loginThrottle.acquire("user@test.com", "10.0.0.1").block()).doesNotThrowAnyException();
+        assertThatCode(() -> loginThrottle.recordFailure("user@test.com").block()).doesNotThrowAnyException();
+        assertThat(count("error")).isEqualTo(2);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("auth.login.throttle").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.onboarding.common.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AuthAuditLogTest {
+
+    @TempDir
+    private Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("기록한 이벤트를 재생 도구로 같은 순서, 같은 값으로 다시 읽음")
+    void writeAndReplay() throws Exception {
+        // given
+        AuthAuditLog auditLog = auditLog(1024, DataSize.ofMegabytes(1));
+        auditLog.start();
+        long startedAt = System.nanoTime();
+
+        // when
+        auditLog.success(AuthEvent.Action.SIGNUP, "user123", startedAt);
+        auditLog.failure(AuthEvent.Action.SIGN, "user123", "Invalid password", startedAt);
+        auditLog.failure(AuthEvent.Action.SIGN, "tab\tuser", "line\nbreak", startedAt);
+        auditLog.destroy();
+
+        // then
+        List<AuthEvent> events = replay();
+        assertThat(events).extracting(AuthEvent::action, AuthEvent::result, AuthEvent::username, AuthEvent::reason)
+                .containsExactly(
+                        tuple(AuthEvent.Action.SIGNUP, AuthEvent.Result.SUCCESS, "user123", null),
+                        tuple(AuthEvent.Action.SIGN, AuthEvent.Result.FAILURE, "user123", "Invalid password"),
+                        tuple(AuthEvent.Action.SIGN, AuthEvent.Result.FAILURE, "tab\tuser", "line\nbreak"));
+        assertThat(meterRegistry.get("auth.audit.written").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("로그인 시도 제한으로 거절된 시도는 THROTTLED 로 기록")
+    void throttled() throws Exception {
+        // given
+        AuthAuditLog auditLog = auditLog(1024, DataSize.ofMegabytes(1));
+        auditLog.start();
+
+        // when
+        auditLog.throttled(AuthEvent.Action.SIGN, "user123", "Retry after 30s", System.nanoTime());
+        auditLog.destroy();
+
+        // then
+        assertThat(replay()).extracting(AuthEvent::result, AuthEvent::username, AuthEvent::reason)
+                .containsExactly(tuple(AuthEvent.Result.THROTTLED, "user123", "Retry after 30s"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 성공은 커밋된 뒤에 기록하고, 롤백되면 실패로 기록")
+    void successAfterCommit() throws Exception {
+        // given: 버퍼에 들어간 이벤트 수로 확인하도록 writer 는 나중에 시작
+        AuthAuditLog auditLog = auditLog(1024, DataSize.ofMegabytes(1));
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> auditLog.success(AuthEvent.Action.SIGNUP, "committed", System.nanoTime()));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> auditLog.success(AuthEvent.Action.SIGNUP, "rolledBack", System.nanoTime()));
+        auditLog.start();
+        auditLog.destroy();
+
+        // then
+        assertThat(replay()).extracting(AuthEvent::result, AuthEvent::username)
+                .containsExactly(
+                        tuple(AuthEvent.Result.SUCCESS, "committed"),
+                        tuple(AuthEvent.Result.FAILURE, "rolledBack"));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 넘으면 새 파일로 넘어가고, 재생은 모든 파일을 순서대로 읽음")
+    void rollOver() throws Exception {
+        // given
+        AuthAuditLog auditLog = auditLog(1024, DataSize.ofBytes(200));
+        auditLog.start();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            auditLog.success(AuthEvent.Action.SIGN, "user" + i, System.nanoTime());
+            if (i % 10 == 9) {
+                Thread.sleep(20); // writer 가 배치를 나눠 쓰도록
+            }
+        }
+        auditLog.destroy();
+
+        // then
+        assertThat(AuthAuditReplay.files(directory)).hasSizeGreaterThan(1);
+        assertThat(replay()).extracting(AuthEvent::username)
+                .containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(i -> "user" + i).toList());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출자를 막지 않고 버린 수를 센다")
+    void overflowIsCounted() {
+        // given: writer 를 시작하지 않아 아무도 소비하지 않음
+        AuthAuditLog auditLog = auditLog(4, DataSize.ofMegabytes(1));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            auditLog.success(AuthEvent.Action.SIGN, "user", System.nanoTime());
+        }
+
+        // then
+        assertThat(meterRegistry.get("auth.audit.dropped").counter().count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("잘린 마지막 줄은 건너뛴다")
+    void truncatedLastLine() throws IOException {
+        // given
+        Path file = directory.resolve(AuthAuditLog.FILE_PREFIX + "1" + AuthAuditLog.FILE_SUFFIX);
+        String complete = new AuthEvent(1L, AuthEvent.Action.SIGN, AuthEvent.Result.SUCCESS, 10, "user", null).toLine();
+        Files.writeString(file, complete + "2\tSIGN\tFAIL", StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+
+        // when
+        List<AuthEvent> events = replay();
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).username()).isEqualTo("user");
+    }
+
+    // 트랜잭션 매니저 없이 동기화만 켜서, 본문 실행 중에는 버퍼에 들어가지 않음을 확인한 뒤 완료 콜백을 호출한다
+    private void completeTransaction(int status, Runnable body) {
+        double buffered = bufferSize();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            assertThat(bufferSize()).isEqualTo(buffered);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(bufferSize()).isEqualTo(buffered + 1);
+    }
+
+    private double bufferSize() {
+        return meterRegistry.get("auth.audit.buffer.size").gauge().value();
+    }
+
+    private AuthAuditLog auditLog(int bufferSize, DataSize maxFileSize) {
+        return new AuthAuditLog(meterRegistry, true, directory, bufferSize, maxFileSize, Duration.ofMillis(10));
+    }
+
+    private List<AuthEvent> replay() throws IOException {
+        List<AuthEvent> events = new ArrayList<>();
+        AuthAuditReplay.replay(directory, events::add);
+        return events;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.onboarding.common.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("가득 차면 기다리지 않고 false, 꺼낸 만큼 다시 넣을 수 있음")
+    void offerWhenFull() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when & then
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 넣은 값은 모두 한 번씩 소비되고, 생산자별 순서는 유지")
+    void concurrentProducers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // when
+        start.countDown();
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.get() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(value -> {
+                if (value[1] != lastSeen[(int) value[0]] + 1) {
+                    outOfOrder.incrementAndGet();
+                }
+                lastSeen[(int) value[0]] = value[1];
+                received.incrementAndGet();
+            }, 256);
+        }
+        executor.shutdownNow();
+
+        // then
+        assertThat(received).hasValue(producers * perProducer);
+        assertThat(outOfOrder).hasValue(0);
+    }
+}
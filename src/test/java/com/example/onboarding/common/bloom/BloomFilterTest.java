@@ -0,0 +1,55 @@
+package com.example.onboarding.common.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판단 (false negative 없음)")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+        assertThat(filter.getInsertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("오탐 확률이 설정값 근처로 유지")
+    void falsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.getEstimatedFpp()).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("비트 수는 n=1,000,000, p=0.01 기준 약 1.2MB")
+    void optimalBitSize() {
+        assertThat(BloomFilter.optimalBitSize(1_000_000, 0.01) / 8).isBetween(1_150_000L, 1_250_000L);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.onboarding.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 전 조회 시 캐시 적중")
+    void getBeforeExpiration() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key", "value", NOW + 1000);
+
+        // when
+        String value = cache.get("key", NOW);
+
+        // then
+        assertThat(value).isEqualTo("value");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 제거되고 미스로 집계")
+    void getAfterExpiration() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key", "value", NOW);
+
+        // when
+        String value = cache.get("key", NOW);
+
+        // then
+        assertThat(value).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getExpirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기 상한 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void evictLeastRecentlyUsed() {
+        // given
+        long expiresAt = Long.MAX_VALUE;
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2);
+        cache.put("a", "1", expiresAt);
+        cache.put("b", "2", expiresAt);
+        cache.get("a", NOW);
+
+        // when
+        cache.put("c", "3", expiresAt);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", NOW)).isNull();
+        assertThat(cache.get("a", NOW)).isEqualTo("1");
+        assertThat(cache.get("c", NOW)).isEqualTo("3");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 캐시는 세그먼트로 나뉘고, 세그먼트 상한의 합은 전체 상한과 같다")
+    void segmented() {
+        // given
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(1000, 8);
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            cache.put(i, i, Long.MAX_VALUE);
+        }
+
+        // then
+        assertThat(cache.getSegmentCount()).isEqualTo(8);
+        assertThat(cache.size()).isEqualTo(1000);
+        assertThat(cache.getEvictionCount()).isEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회/저장해도 상한을 넘지 않고 통계가 맞는다")
+    void concurrentAccess() throws Exception {
+        // given
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(512, 16);
+        int threads = 8;
+        int operations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t * operations;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < operations; i++) {
+                        int key = (offset + i) % 2048;
+                        if (cache.get(key, NOW) == null) {
+                            cache.put(key, key, Long.MAX_VALUE);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(512);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo((long) threads * operations);
+    }
+}
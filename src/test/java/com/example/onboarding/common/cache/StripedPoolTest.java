@@ -0,0 +1,45 @@
+package com.example.onboarding.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedPoolTest {
+
+    @Test
+    @DisplayName("돌려놓은 객체를 같은 스레드에서 다시 사용")
+    void reuse() {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        StripedPool<Object> pool = new StripedPool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 4);
+        Object first = pool.borrow();
+        pool.release(first);
+
+        // when
+        Object second = pool.borrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("빌린 객체를 돌려놓기 전에는 새로 만들어 동시에 같은 객체를 쓰지 않음")
+    void borrowWhileInUse() {
+        // given
+        StripedPool<Object> pool = new StripedPool<>(Object::new, 4);
+        Object first = pool.borrow();
+
+        // when
+        Object second = pool.borrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.onboarding.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTest {
+
+    @Nested
+    @DisplayName("비용 보정 테스트")
+    class CalibrateTest {
+
+        @Test
+        @DisplayName("예산을 넘더라도 최소 비용 아래로 내려가지 않음")
+        void calibrateFloor() {
+            // when
+            BCryptCalibration calibration = new BCryptCostCalibrator(4, 6).calibrate(0);
+
+            // then
+            assertThat(calibration.getStrength()).isEqualTo(4);
+            assertThat(calibration.getMinStrength()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("예산이 충분하면 최대 비용 선택")
+        void calibrateCeiling() {
+            // when
+            BCryptCalibration calibration = new BCryptCostCalibrator(4, 6).calibrate(60_000);
+
+            // then
+            assertThat(calibration.getStrength()).isEqualTo(6);
+            assertThat(calibration.getHashMillis()).isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("재해시 판단 테스트")
+    class NeedsRehashTest {
+
+        private final BCryptCalibration calibration = new BCryptCalibration(5, 1.0, 250, 4);
+
+        @Test
+        @DisplayName("현재 비용과 같은 해시는 재해시하지 않음")
+        void sameStrength() {
+            assertThat(calibration.needsRehash(new BCryptPasswordEncoder(5).encode("Password123!"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("현재 비용보다 낮은 해시는 재해시")
+        void lowerStrength() {
+            assertThat(calibration.needsRehash(new BCryptPasswordEncoder(4).encode("Password123!"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("현재 비용보다 높은 해시는 낮추지 않음 (다른 노드가 더 높은 비용으로 측정한 경우)")
+        void higherStrength() {
+            assertThat(calibration.needsRehash(new BCryptPasswordEncoder(6).encode("Password123!"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("BCrypt 형식이 아니면 재해시하지 않음")
+        void notBCrypt() {
+            assertThat(calibration.needsRehash("plain-text")).isFalse();
+            assertThat(calibration.needsRehash(null)).isFalse();
+        }
+    }
+}
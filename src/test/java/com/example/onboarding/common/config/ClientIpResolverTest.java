@@ -0,0 +1,75 @@
+package com.example.onboarding.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(new String[]{"10.0.0.0/8", "192.168.0.1"});
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 를 사용")
+    void forwardedByTrustedProxy() {
+        // given: 로드밸런서(10.0.0.5)가 붙인 헤더
+        MockHttpServletRequest request = request("10.0.0.5", "203.0.113.7");
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("여러 프록시를 거치면 오른쪽부터 신뢰하는 프록시를 건너뛰고, 위조된 왼쪽 값은 무시")
+    void skipsTrustedHopsOnly() {
+        // given: 클라이언트가 198.51.100.1 을 위조해 보냈고, 203.0.113.7 이 실제 접속 주소
+        MockHttpServletRequest request = request("10.0.0.5", "198.51.100.1, 203.0.113.7, 192.168.0.1");
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 직접 온 요청은 X-Forwarded-For 를 무시")
+    void untrustedPeerIgnoresHeader() {
+        // given
+        MockHttpServletRequest request = request("203.0.113.9", "198.51.100.1");
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 설정하지 않으면 접속 주소를 그대로 사용")
+    void noTrustedProxies() {
+        // given
+        ClientIpResolver noProxies = new ClientIpResolver(new String[0]);
+
+        // when & then
+        assertThat(noProxies.resolve(request("10.0.0.5", "203.0.113.7"))).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    @DisplayName("리액티브 요청도 같은 규칙으로 클라이언트 IP 를 구함")
+    void reactiveRequest() {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.post("/sign")
+                .remoteAddress(new InetSocketAddress("10.0.0.5", 443))
+                .header(ClientIpResolver.FORWARDED_FOR_HEADER, "198.51.100.1, 203.0.113.7")
+                .build();
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(ClientIpResolver.FORWARDED_FOR_HEADER, forwardedFor);
+        return request;
+    }
+}
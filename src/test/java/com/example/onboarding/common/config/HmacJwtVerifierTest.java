@@ -0,0 +1,213 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacJwtVerifierTest {
+
+    private static final String TEST_SECRET_KEY = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+    private static final byte[] SECRET = Base64.getDecoder().decode(TEST_SECRET_KEY);
+    private static final Key KEY = Keys.hmacShaKeyFor(SECRET);
+
+    private JwtUtil jwtUtil;
+    private HmacJwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
+        jwtUtil.init();
+        verifier = new HmacJwtVerifier(SECRET);
+    }
+
+    @Test
+    @DisplayName("직접 발급한 토큰은 fast path 에서 검증")
+    void issuedTokensUseFastPath() {
+        // given
+        String accessToken = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_ADMIN));
+        String refreshToken = jwtUtil.substringToken(jwtUtil.createRefreshToken(1L, "session-1"));
+
+        // when
+        VerifiedToken access = verifier.verify(accessToken, System.currentTimeMillis());
+        VerifiedToken refresh = verifier.verify(refreshToken, System.currentTimeMillis());
+
+        // then
+        assertThat(access).isNotNull();
+        assertThat(access.getSubject()).isEqualTo("1");
+        assertThat(access.getUsername()).isEqualTo("user123");
+        assertThat(access.getNickname()).isEqualTo("홍길동");
+        assertThat(access.getUserRole()).isEqualTo(UserRole.ROLE_ADMIN.name());
+        assertThat(refresh).isNotNull();
+        assertThat(refresh.getSubject()).isEqualTo("1");
+        assertThat(refresh.getSessionId()).isEqualTo("session-1");
+    }
+
+    @Test
+    @DisplayName("compact 형식 토큰도 fast path 에서 검증하고, 생략된 역할은 ROLE_USER")
+    void compactTokensUseFastPath() {
+        // given
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenFormat", AccessTokenFormat.COMPACT);
+        String admin = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_ADMIN));
+        String user = jwtUtil.substringToken(jwtUtil.createAccessToken(2L, "user456", "임꺽정", UserRole.ROLE_USER));
+
+        // when
+        VerifiedToken adminToken = verifier.verify(admin, System.currentTimeMillis());
+        VerifiedToken userToken = verifier.verify(user, System.currentTimeMillis());
+
+        // then
+        assertThat(adminToken.getUsername()).isEqualTo("user123");
+        assertThat(adminToken.getNickname()).isEqualTo("홍길동");
+        assertThat(adminToken.getUserRole()).isEqualTo(UserRole.ROLE_ADMIN.name());
+        assertThat(jwtUtil.extractClaims(user)).doesNotContainKey(AccessTokenFormat.COMPACT.roleClaim());
+        assertThat(userToken.getUserRole()).isEqualTo(UserRole.ROLE_USER.name());
+        assertThat(VerifiedToken.from(jwtUtil.extractClaims(user))).usingRecursiveComparison().isEqualTo(userToken);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tokens")
+    @DisplayName("jjwt 경로와 동일한 토큰을 수락/거부")
+    void compatibleWithJjwt(String description, String token) {
+        // when
+        VerifiedToken fast = verifier.verify(token, System.currentTimeMillis());
+        VerifiedToken expected = verifyWithJjwt(token);
+        VerifiedToken actual = verifyWithJwtUtil(token);
+
+        // then
+        if (fast != null) {
+            assertThat(expected).usingRecursiveComparison().isEqualTo(fast);
+        }
+        if (expected == null) {
+            assertThat(actual).isNull();
+        } else {
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("두 형식의 claim 이 섞인 토큰은 u 유무로 형식을 정하고, fast path 와 jjwt 경로가 같은 값을 낸다")
+    void mixedFormatClaimsAgree() {
+        // given
+        long exp = System.currentTimeMillis() / 1000 + 3600;
+        String legacy = sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"username\":\"user123\",\"nickname\":\"nick\","
+                + "\"userRole\":\"ROLE_USER\",\"n\":\"other\",\"r\":1,\"exp\":" + exp + "}");
+        String compact = sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"userRole\":\"ROLE_ADMIN\",\"nickname\":\"nick\","
+                + "\"u\":\"user123\",\"exp\":" + exp + "}");
+
+        // when
+        VerifiedToken fastLegacy = verifier.verify(legacy, System.currentTimeMillis());
+        VerifiedToken fastCompact = verifier.verify(compact, System.currentTimeMillis());
+
+        // then
+        assertThat(fastLegacy).isNotNull();
+        assertThat(fastLegacy.getNickname()).isEqualTo("nick");
+        assertThat(fastLegacy.getUserRole()).isEqualTo(UserRole.ROLE_USER.name());
+        assertThat(verifyWithJjwt(legacy)).usingRecursiveComparison().isEqualTo(fastLegacy);
+        assertThat(fastCompact).isNotNull();
+        assertThat(fastCompact.getNickname()).isNull();
+        assertThat(fastCompact.getUserRole()).isEqualTo(UserRole.ROLE_USER.name());
+        assertThat(verifyWithJjwt(compact)).usingRecursiveComparison().isEqualTo(fastCompact);
+    }
+
+    static Stream<Arguments> tokens() {
+        long now = System.currentTimeMillis();
+        long exp = now / 1000 + 3600;
+        String valid = Jwts.builder()
+                .setSubject("1")
+                .claim("username", "user123")
+                .claim("nickname", "홍길동")
+                .claim("userRole", UserRole.ROLE_USER)
+                .setExpiration(new Date(now + 60_000))
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .compact();
+        String[] parts = valid.split("\\.");
+        String other = Jwts.builder().setSubject("2").setExpiration(new Date(now + 60_000))
+                .signWith(KEY, SignatureAlgorithm.HS256).compact();
+        char last = valid.charAt(valid.length() - 1);
+
+        return Stream.of(
+                Arguments.of("정상 토큰", valid),
+                Arguments.of("만료된 토큰", Jwts.builder().setSubject("1").setExpiration(new Date(now - 1000))
+                        .signWith(KEY, SignatureAlgorithm.HS256).compact()),
+                Arguments.of("다른 키로 서명", Jwts.builder().setSubject("1").setExpiration(new Date(now + 60_000))
+                        .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256), SignatureAlgorithm.HS256).compact()),
+                Arguments.of("HS512 서명", Jwts.builder().setSubject("1").setExpiration(new Date(now + 60_000))
+                        .signWith(KEY, SignatureAlgorithm.HS512).compact()),
+                Arguments.of("서명 없는 토큰", Jwts.builder().setSubject("1").setExpiration(new Date(now + 60_000)).compact()),
+                Arguments.of("만료 시각 없음", Jwts.builder().setSubject("1").signWith(KEY, SignatureAlgorithm.HS256).compact()),
+                Arguments.of("nbf 가 미래", Jwts.builder().setSubject("1").setNotBefore(new Date(now + 60_000))
+                        .setExpiration(new Date(now + 120_000)).signWith(KEY, SignatureAlgorithm.HS256).compact()),
+                Arguments.of("추가 claim", Jwts.builder().setSubject("1").claim("extra", Map.of("a", 1))
+                        .setExpiration(new Date(now + 60_000)).signWith(KEY, SignatureAlgorithm.HS256).compact()),
+                Arguments.of("payload 변조", parts[0] + "." + other.split("\\.")[1] + "." + parts[2]),
+                Arguments.of("서명 변조", valid.substring(0, valid.length() - 1) + (last == 'A' ? 'B' : 'A')),
+                Arguments.of("서명 부분 누락", parts[0] + "." + parts[1]),
+                Arguments.of("패딩 포함", valid + "="),
+                Arguments.of("토큰 아님", "not-a-token"),
+                Arguments.of("중복 claim", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"sub\":\"2\",\"exp\":" + exp + "}")),
+                Arguments.of("숫자 sub", sign("{\"alg\":\"HS256\"}", "{\"sub\":1,\"exp\":" + exp + "}")),
+                Arguments.of("문자열 exp", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"exp\":\"" + exp + "\"}")),
+                Arguments.of("숫자 username", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"username\":3,\"exp\":" + exp + "}")),
+                Arguments.of("zip 헤더", sign("{\"alg\":\"HS256\",\"zip\":\"DEF\"}", "{\"sub\":\"1\",\"exp\":" + exp + "}")),
+                Arguments.of("객체가 아닌 payload", sign("{\"alg\":\"HS256\"}", "[1,2,3]")),
+                Arguments.of("compact 토큰", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"u\":\"user123\",\"n\":\"nick\",\"r\":1,\"exp\":" + exp + "}")),
+                Arguments.of("compact 역할 생략", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"u\":\"user123\",\"exp\":" + exp + "}")),
+                Arguments.of("compact 알 수 없는 역할", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"u\":\"user123\",\"r\":7,\"exp\":" + exp + "}")),
+                Arguments.of("compact 문자열 역할", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"u\":\"user123\",\"r\":\"1\",\"exp\":" + exp + "}")),
+                Arguments.of("legacy 에 compact claim 혼합", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"username\":\"user123\",\"nickname\":\"nick\",\"userRole\":\"ROLE_USER\",\"n\":\"other\",\"r\":1,\"exp\":" + exp + "}")),
+                Arguments.of("compact 에 legacy claim 혼합", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"userRole\":\"ROLE_ADMIN\",\"nickname\":\"nick\",\"u\":\"user123\",\"exp\":" + exp + "}")),
+                Arguments.of("compact claim 이 u 보다 앞", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"n\":\"nick\",\"username\":\"legacy\",\"u\":\"user123\",\"exp\":" + exp + "}")),
+                Arguments.of("JSON 뒤 잉여 문자", sign("{\"alg\":\"HS256\"}", "{\"sub\":\"1\",\"exp\":" + exp + "}x"))
+        );
+    }
+
+    // 기존 필터가 하던 방식: jjwt 로 파싱 후 필요한 필드를 꺼냄
+    private VerifiedToken verifyWithJjwt(String token) {
+        try {
+            return VerifiedToken.from(jwtUtil.extractClaims(token));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private VerifiedToken verifyWithJwtUtil(String token) {
+        try {
+            return jwtUtil.verifyToken(token);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String sign(String header, String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+            return signingInput + "." + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
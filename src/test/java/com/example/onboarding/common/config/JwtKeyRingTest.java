@@ -0,0 +1,200 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String TEST_SECRET_KEY = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+
+    @ParameterizedTest
+    @EnumSource(value = JwtAlgorithm.class, names = {"ES256", "EDDSA"})
+    @DisplayName("비대칭 키로 발급한 토큰은 kid 의 공개 키로 fast path 에서 검증")
+    void asymmetricRoundTrip(JwtAlgorithm algorithm) throws Exception {
+        // given
+        KeyPair keyPair = JwtKeyGenerator.generate(algorithm);
+        JwtUtil jwtUtil = jwtUtil(algorithm, "k1", keyPair, "");
+
+        // when
+        String token = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_ADMIN));
+        VerifiedToken verified = jwtUtil.getKeyRing().verify(token, System.currentTimeMillis());
+
+        // then
+        assertThat(header(token).get("alg").asText()).isEqualTo(algorithm.joseName());
+        assertThat(header(token).get("kid").asText()).isEqualTo("k1");
+        assertThat(verified).isNotNull();
+        assertThat(verified.getUsername()).isEqualTo("user123");
+        assertThat(verified.getUserRole()).isEqualTo(UserRole.ROLE_ADMIN.name());
+    }
+
+    @Test
+    @DisplayName("ES256 토큰은 jjwt 경로에서도 kid 의 키로 검증")
+    void es256ThroughJjwt() throws Exception {
+        // given
+        JwtUtil jwtUtil = jwtUtil(JwtAlgorithm.ES256, "k1", JwtKeyGenerator.generate(JwtAlgorithm.ES256), "");
+        String token = jwtUtil.substringToken(jwtUtil.createRefreshToken(7L, "session-1"));
+
+        // when & then
+        assertThat(jwtUtil.extractClaims(token).getSubject()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("발급 키를 바꿔도 verification-keys 에 남긴 이전 키와 kid 없는 HS256 토큰은 검증")
+    void rotation() throws Exception {
+        // given
+        KeyPair oldKey = JwtKeyGenerator.generate(JwtAlgorithm.ES256);
+        JwtUtil before = jwtUtil(JwtAlgorithm.ES256, "old", oldKey, "");
+        String oldToken = before.substringToken(before.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER));
+        JwtUtil legacy = jwtUtil(JwtAlgorithm.HS256, "", null, "");
+        String legacyToken = legacy.substringToken(legacy.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER));
+
+        // when
+        JwtUtil after = jwtUtil(JwtAlgorithm.EDDSA, "new", JwtKeyGenerator.generate(JwtAlgorithm.EDDSA),
+                "old:ES256:" + encode(oldKey.getPublic().getEncoded()));
+
+        // then
+        assertThat(after.verifyToken(oldToken).getUsername()).isEqualTo("user123");
+        assertThat(after.verifyToken(legacyToken).getUsername()).isEqualTo("user123");
+        String newToken = after.substringToken(after.createAccessToken(2L, "user456", "임꺽정", UserRole.ROLE_USER));
+        assertThat(after.verifyToken(newToken).getSubject()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("kid 의 알고리즘과 다른 alg 로 서명한 토큰과 모르는 kid 는 거부")
+    void rejectsAlgorithmConfusionAndUnknownKid() throws Exception {
+        // given: ES256 kid 를 달고 HS256 으로 서명한 토큰
+        JwtUtil jwtUtil = jwtUtil(JwtAlgorithm.ES256, "k1", JwtKeyGenerator.generate(JwtAlgorithm.ES256), "");
+        JwtUtil hmac = jwtUtil(JwtAlgorithm.HS256, "k1", null, "");
+        String confused = hmac.substringToken(hmac.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_ADMIN));
+        JwtUtil other = jwtUtil(JwtAlgorithm.ES256, "unknown", JwtKeyGenerator.generate(JwtAlgorithm.ES256), "");
+        String unknown = other.substringToken(other.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_ADMIN));
+
+        // when & then
+        assertThat(jwtUtil.getKeyRing().verify(confused, System.currentTimeMillis())).isNull();
+        assertThatThrownBy(() -> jwtUtil.verifyToken(confused)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> jwtUtil.verifyToken(unknown)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("accept-legacy-hs256=false 이면 kid 없는 HS256 토큰을 거부")
+    void rejectsLegacyWhenDisabled() throws Exception {
+        // given
+        JwtUtil legacy = jwtUtil(JwtAlgorithm.HS256, "", null, "");
+        String legacyToken = legacy.substringToken(legacy.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER));
+        JwtUtil jwtUtil = jwtUtil(JwtAlgorithm.ES256, "k1", JwtKeyGenerator.generate(JwtAlgorithm.ES256), "", false);
+
+        // when & then
+        assertThat(jwtUtil.getKeyRing().verify(legacyToken, System.currentTimeMillis())).isNull();
+        assertThatThrownBy(() -> jwtUtil.verifyToken(legacyToken)).isInstanceOf(SignatureException.class);
+        String token = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER));
+        assertThat(jwtUtil.verifyToken(token).getUsername()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("kid 없이 accept-legacy-hs256=false 로 설정하면 기동하지 않음")
+    void legacyDisabledRequiresKid() {
+        assertThatThrownBy(() -> jwtUtil(JwtAlgorithm.HS256, "", null, "", false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("ES256 에 P-256 이 아닌 곡선의 키를 설정하면 기동하지 않음")
+    void rejectsNonP256Key() throws Exception {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp384r1"));
+        KeyPair p384 = generator.generateKeyPair();
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil(JwtAlgorithm.ES256, "k1", p384, ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("P-256");
+        assertThatThrownBy(() -> jwtUtil(JwtAlgorithm.ES256, "k1", JwtKeyGenerator.generate(JwtAlgorithm.ES256),
+                "old:ES256:" + encode(p384.getPublic().getEncoded())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 EdDSA 토큰은 jjwt 를 거치지 않고 ExpiredJwtException")
+    void expiredEdDsa() throws Exception {
+        // given
+        JwtUtil jwtUtil = jwtUtil(JwtAlgorithm.EDDSA, "k1", JwtKeyGenerator.generate(JwtAlgorithm.EDDSA), "");
+        String token = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER));
+
+        // when & then
+        long afterExpiry = System.currentTimeMillis() + 2 * 60 * 60 * 1000L;
+        assertThatThrownBy(() -> jwtUtil.getKeyRing().verify(token, afterExpiry))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("JWKS 에는 공개 키만 kid, alg 와 함께 게시")
+    void jwks() throws Exception {
+        // given
+        KeyPair ec = JwtKeyGenerator.generate(JwtAlgorithm.ES256);
+        KeyPair ed = JwtKeyGenerator.generate(JwtAlgorithm.EDDSA);
+        JwtUtil jwtUtil = jwtUtil(JwtAlgorithm.ES256, "ec-1", ec,
+                "ed-1:EdDSA:" + encode(ed.getPublic().getEncoded()) + ",hs-1:HS256:" + TEST_SECRET_KEY);
+
+        // when
+        JsonNode keys = new ObjectMapper().readTree(jwtUtil.getKeyRing().getJwks()).get("keys");
+
+        // then
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0).get("kid").asText()).isEqualTo("ec-1");
+        assertThat(keys.get(0).get("crv").asText()).isEqualTo("P-256");
+        assertThat(Base64.getUrlDecoder().decode(keys.get(0).get("x").asText())).hasSize(32);
+        assertThat(keys.get(1).get("kid").asText()).isEqualTo("ed-1");
+        assertThat(keys.get(1).get("kty").asText()).isEqualTo("OKP");
+        assertThat(keys.get(1).get("alg").asText()).isEqualTo("EdDSA");
+        assertThat(keys.get(0).has("d")).isFalse();
+        assertThat(jwtUtil.getKeyRing().getJwksEtag()).startsWith("\"");
+    }
+
+    private JwtUtil jwtUtil(JwtAlgorithm algorithm, String kid, KeyPair keyPair, String verificationKeys) {
+        return jwtUtil(algorithm, kid, keyPair, verificationKeys, true);
+    }
+
+    private JwtUtil jwtUtil(JwtAlgorithm algorithm, String kid, KeyPair keyPair, String verificationKeys,
+                            boolean acceptLegacy) {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(jwtUtil, "signingKid", kid);
+        if (keyPair != null) {
+            ReflectionTestUtils.setField(jwtUtil, "signingPrivateKey", encode(keyPair.getPrivate().getEncoded()));
+            ReflectionTestUtils.setField(jwtUtil, "signingPublicKey", encode(keyPair.getPublic().getEncoded()));
+        }
+        ReflectionTestUtils.setField(jwtUtil, "verificationKeys", verificationKeys);
+        ReflectionTestUtils.setField(jwtUtil, "acceptLegacyHs256", acceptLegacy);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static JsonNode header(String token) throws Exception {
+        byte[] header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        return new ObjectMapper().readTree(new String(header, StandardCharsets.UTF_8));
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
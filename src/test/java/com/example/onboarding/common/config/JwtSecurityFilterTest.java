@@ -0,0 +1,196 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.user.enums.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtSecurityFilterTest {
+
+    private static final String TEST_SECRET_KEY = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtUtil jwtUtil;
+    private TokenRevocationList revocationList;
+    private JwtSecurityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
+        jwtUtil.init();
+        // 폐기된 사용자가 없으면 Bloom filter 만으로 판단하므로 Redis 연결이 필요 없다
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory();
+        revocationList = new TokenRevocationList(new StringRedisTemplate(connectionFactory),
+                connectionFactory, meterRegistry, 1_000, 0.01, Duration.ofMinutes(10), 100);
+        filter = new JwtSecurityFilter(jwtUtil, new JwtAuthenticationCache(100), revocationList, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 outcome=valid 로 기록하고 인증 정보를 설정")
+    void valid() throws Exception {
+        // when
+        filter.doFilter(request(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER)),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(count("valid")).isEqualTo(1);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 요청은 캐시 적중으로 auth.jwt.cache.requests 에 기록")
+    void cacheMetrics() throws Exception {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(100);
+        cache.bindTo(meterRegistry);
+        JwtSecurityFilter cachingFilter = new JwtSecurityFilter(jwtUtil, cache, revocationList, meterRegistry);
+        String token = jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+
+        // when
+        cachingFilter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+        cachingFilter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(meterRegistry.get("auth.jwt.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("auth.jwt.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쿠키가 없으면 outcome=absent")
+    void absent() throws Exception {
+        // when
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(count("absent")).isEqualTo(1);
+        assertThat(count("valid")).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 outcome=expired 로 기록하고 401")
+    void expired() throws Exception {
+        // given
+        String expired = "Bearer " + Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(TEST_SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(expired), response, new MockFilterChain());
+
+        // then
+        assertThat(count("expired")).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("폐기 메시지로 받은 폐기 시각으로 판단해 Redis 를 조회하지 않고, 같은 초에 발급된 토큰도 폐기")
+    void revokedInSameSecondWithoutRedis() throws Exception {
+        // given: 토큰 발급과 같은 초에 로그아웃. 이 테스트의 Redis 연결은 시작되지 않아 조회하면 실패한다
+        String token = jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER);
+        revocationList.onMessage(revocationMessage("1:" + System.currentTimeMillis() / 1000 * 1000), null);
+
+        for (int i = 0; i < 2; i++) {
+            // when
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request(token), response, new MockFilterChain());
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+        }
+        assertThat(count("revoked")).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.revocation.exact.checks").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("폐기 시각 이후에 발급된 토큰은 Redis 조회 없이 통과")
+    void issuedAfterRevocation() throws Exception {
+        // given
+        revocationList.onMessage(revocationMessage("1:" + (System.currentTimeMillis() / 1000 * 1000 - 5_000)), null);
+
+        // when
+        filter.doFilter(request(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER)),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(count("valid")).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.revocation.exact.checks").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 폐기 여부를 확인할 수 없으면 통과시키고 auth.revocation.unavailable 로 기록")
+    void revocationCheckFailsOpen() throws Exception {
+        // given: 열려 있지 않은 포트의 Redis, Bloom filter 에는 사용자 1 이 있다
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1));
+        unreachable.afterPropertiesSet();
+        unreachable.start();
+        TokenRevocationList unreachableList = new TokenRevocationList(new StringRedisTemplate(unreachable),
+                unreachable, meterRegistry, 1_000, 0.01, Duration.ofMinutes(10), 100);
+        unreachableList.onMessage(revocationMessage("1"), null);
+        JwtSecurityFilter failOpenFilter = new JwtSecurityFilter(jwtUtil, new JwtAuthenticationCache(100), unreachableList, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            // when
+            failOpenFilter.doFilter(request(jwtUtil.createAccessToken(1L, "user123", "홍길동", UserRole.ROLE_USER)),
+                    response, new MockFilterChain());
+        } finally {
+            unreachable.destroy();
+        }
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(count("valid")).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.revocation.unavailable").counter().count()).isEqualTo(1);
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("auth.filter").tag("outcome", outcome).timer().count();
+    }
+
+    // 폐기 시각이 없는 메시지는 이전 형식으로, 캐시 없이 Redis 에서 확인하게 된다
+    private static DefaultMessage revocationMessage(String body) {
+        return new DefaultMessage(TokenRevocationList.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtil.AUTHORIZATION_HEADER,
+                URLEncoder.encode(token, StandardCharsets.UTF_8).replace("+", "%20")));
+        return request;
+    }
+}
@@ -3,9 +3,14 @@ package com.example.onboarding.common.config;
 import com.example.onboarding.common.exception.ServerException;
 import com.example.onboarding.user.enums.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,26 +18,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JwtUtilTest {
 
-    @Mock
-    private HttpServletResponse response;
-
     @Mock
     private HttpServletRequest request;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private JwtUtil jwtUtil;
 
@@ -80,13 +88,64 @@ class JwtUtilTest {
             Long userId = 1L;
 
             // when
-            String token = jwtUtil.createRefreshToken(userId);
+            String token = jwtUtil.createRefreshToken(userId, "session-1");
 
             // then
             assertThat(token).startsWith("Bearer ");
             String actualToken = jwtUtil.substringToken(token);
             Claims claims = jwtUtil.extractClaims(actualToken);
             assertThat(claims.getSubject()).isEqualTo(userId.toString());
+            assertThat(claims.get("sid")).isEqualTo("session-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Token 검증 테스트")
+    class VerifyTokenTest {
+
+        @Test
+        @DisplayName("Access Token 검증 성공")
+        void verifyAccessTokenSuccess() {
+            // given
+            String token = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "test@test.com", "tester", UserRole.ROLE_USER));
+
+            // when
+            VerifiedToken verified = jwtUtil.verifyToken(token);
+
+            // then
+            Claims claims = jwtUtil.extractClaims(token);
+            assertThat(verified.getSubject()).isEqualTo(claims.getSubject());
+            assertThat(verified.getUsername()).isEqualTo(claims.get("username"));
+            assertThat(verified.getNickname()).isEqualTo(claims.get("nickname"));
+            assertThat(verified.getUserRole()).isEqualTo(claims.get("userRole"));
+            assertThat(verified.getExpiration()).isEqualTo(claims.getExpiration().getTime());
+        }
+
+        @Test
+        @DisplayName("만료된 토큰 검증 실패")
+        void verifyExpiredTokenFail() throws Exception {
+            // given
+            Field keyField = JwtUtil.class.getDeclaredField("key");
+            ReflectionUtils.makeAccessible(keyField);
+            String token = Jwts.builder()
+                    .setSubject("1")
+                    .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                    .signWith((Key) keyField.get(jwtUtil), SignatureAlgorithm.HS256)
+                    .compact();
+
+            // when & then
+            assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyToken(token));
+        }
+
+        @Test
+        @DisplayName("서명이 변조된 토큰 검증 실패")
+        void verifyTamperedTokenFail() {
+            // given
+            String token = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "test@test.com", "tester", UserRole.ROLE_USER));
+            String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "A".repeat(43);
+
+            // when & then
+            assertThrows(JwtException.class, () -> jwtUtil.verifyToken(tampered));
         }
     }
 
@@ -131,38 +190,80 @@ class JwtUtilTest {
             // then
             assertThat(token).isEqualTo("test-token");
         }
-    }
-
-    @Nested
-    @DisplayName("쿠키 설정 테스트")
-    class SetCookieTest {
 
         @Test
-        @DisplayName("Access Token 쿠키 설정")
-        void setAccessTokenCookie() {
+        @DisplayName("Authorization 헤더가 있으면 쿠키보다 우선")
+        void resolveTokenPrefersHeader() {
             // given
-            String token = "test-access-token";
+            when(request.getHeader("Authorization")).thenReturn("Bearer header-token");
 
             // when
-            jwtUtil.setAccessTokenCookie(token);
+            String token = jwtUtil.resolveToken(request);
 
             // then
-            verify(response).addHeader(eq("Set-Cookie"), anyString());
-            verify(response).addCookie(any(Cookie.class));
+            assertThat(token).isEqualTo("header-token");
+            verify(request, never()).getHeaders("Cookie");
+            verify(request, never()).getCookies();
         }
 
         @Test
-        @DisplayName("Refresh Token 쿠키 설정")
-        void setRefreshTokenCookie() {
+        @DisplayName("Bearer 가 아닌 Authorization 헤더는 쿠키로 대체하지 않고 null")
+        void resolveTokenIgnoresOtherSchemes() {
             // given
-            String token = "test-refresh-token";
+            when(request.getHeader("Authorization")).thenReturn("Basic dXNlcjpwYXNz");
+
+            // when & then
+            assertThat(jwtUtil.resolveToken(request)).isNull();
+        }
+
+        @Test
+        @DisplayName("헤더가 없으면 여러 쿠키 중 Authorization 쿠키에서 토큰 추출")
+        void resolveTokenFromCookieHeader() {
+            // given
+            when(request.getHeaders("Cookie")).thenReturn(Collections.enumeration(List.of(
+                    "_ga=GA1.1.123; XAuthorization=other; Authorization=Bearer%20cookie-token; theme=dark")));
 
             // when
-            jwtUtil.setRefreshTokenCookie(token);
+            String token = jwtUtil.resolveToken(request);
 
             // then
-            verify(response).addHeader(eq("Set-Cookie"), anyString());
-            verify(response, times(2)).addCookie(any(Cookie.class));
+            assertThat(token).isEqualTo("cookie-token");
+            verify(request, never()).getCookies();
+        }
+
+        @Test
+        @DisplayName("나뉘어 온 Cookie 헤더와 '+' 로 인코딩된 쿠키 값도 처리")
+        void resolveTokenFromSplitCookieHeaders() {
+            // given
+            when(request.getHeaders("Cookie")).thenReturn(Collections.enumeration(List.of(
+                    "_ga=GA1.1.123", "Authorization=\"Bearer+cookie-token\"")));
+
+            // when & then
+            assertThat(jwtUtil.resolveToken(request)).isEqualTo("cookie-token");
+        }
+
+        @Test
+        @DisplayName("JWT 그대로 저장된 쿠키 값과 이전 Bearer%20 형식 모두 처리")
+        void tokenFromCookieValue() {
+            // given
+            String jwt = jwtUtil.substringToken(jwtUtil.createAccessToken(1L, "test@test.com", "tester", UserRole.ROLE_USER));
+
+            // when & then
+            assertThat(jwtUtil.tokenFromCookieValue(jwt)).isEqualTo(jwt);
+            assertThat(jwtUtil.tokenFromCookieValue("Bearer%20" + jwt)).isEqualTo(jwt);
+            assertThat(jwtUtil.bearerFromCookieValue(jwt)).isEqualTo("Bearer " + jwt);
+            // @CookieValue 는 값을 디코딩해서 넘긴다
+            assertThat(jwtUtil.bearerFromCookieValue("Bearer " + jwt)).isEqualTo("Bearer " + jwt);
+        }
+
+        @Test
+        @DisplayName("헤더와 쿠키 모두 없으면 null")
+        void resolveTokenAbsent() {
+            // given
+            when(request.getHeaders("Cookie")).thenReturn(Collections.enumeration(List.of("_ga=GA1.1.123; theme=dark")));
+
+            // when & then
+            assertThat(jwtUtil.resolveToken(request)).isNull();
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.example.onboarding.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ManagementPathsTest {
+
+    @Test
+    @DisplayName("지표 경로는 관리 포트로 들어온 요청만 인증 없이 허용")
+    void onlyOnManagementPort() {
+        assertThat(ManagementPaths.matches(8081, ManagementPaths.PROMETHEUS, 8081, 8080)).isTrue();
+        assertThat(ManagementPaths.matches(8080, ManagementPaths.PROMETHEUS, 8081, 8080)).isFalse();
+        assertThat(ManagementPaths.matches(8081, "/actuator/env", 8081, 8080)).isFalse();
+    }
+
+    @Test
+    @DisplayName("관리 포트를 따로 두지 않으면 어떤 요청도 허용하지 않음")
+    void noSeparateManagementPort() {
+        assertThat(ManagementPaths.matches(8080, ManagementPaths.PROMETHEUS, -1, 8080)).isFalse();
+        assertThat(ManagementPaths.matches(8080, ManagementPaths.PROMETHEUS, 8080, 8080)).isFalse();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.onboarding.common.config;
+
+import com.example.onboarding.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordHasher != null) {
+            passwordHasher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 결과를 그대로 반환")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(new PlainEncoder(null), meterRegistry, 2, 4, 1);
+
+        // when
+        String encoded = passwordHasher.encode("Password123!");
+
+        // then
+        assertThat(encoded).isEqualTo("{plain}Password123!");
+        assertThat(passwordHasher.matches("Password123!", encoded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 429 예외로 즉시 거절")
+    void rejectWhenQueueFull() {
+        // given : 작업 스레드 1개와 대기열 1칸을 모두 점유
+        passwordHasher = new PasswordHasher(new PlainEncoder(release), meterRegistry, 1, 1, 3);
+        CompletableFuture.runAsync(() -> passwordHasher.encode("running"));
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("auth.hashing.active").gauge().value() == 1.0);
+        CompletableFuture.runAsync(() -> passwordHasher.encode("queued"));
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("auth.hashing.queue.depth").gauge().value() == 1.0);
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> passwordHasher.encode("rejected"));
+
+        // then
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(3);
+        assertThat(meterRegistry.get("auth.hashing.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    // latch 가 열릴 때까지 대기하는 테스트용 인코더
+    private record PlainEncoder(CountDownLatch latch) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
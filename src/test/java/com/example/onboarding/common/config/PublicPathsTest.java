@@ -0,0 +1,37 @@
+package com.example.onboarding.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicPathsTest {
+
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/signup", "/sign", "/token/refresh", "/swagger-ui", "/swagger-ui/index.html",
+            "/v3/api-docs", "/v3/api-docs/swagger-config", "/swagger-ui.html", "/webjars/a/b.js", "/livez", "/readyz"})
+    @DisplayName("permitAll 경로와 일치")
+    void matchesPublicPaths(String path) {
+        assertThat(PublicPaths.matches(path)).isTrue();
+        assertThat(matchesAnyPattern(path)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/test", "/logout", "/signup/extra", "/signin", "/swagger-uix", "/v3/api-docsx", "/admin/users/import", "/actuator/prometheus", "/"})
+    @DisplayName("보호된 경로와는 일치하지 않음")
+    void doesNotMatchProtectedPaths(String path) {
+        assertThat(PublicPaths.matches(path)).isFalse();
+        assertThat(matchesAnyPattern(path)).isFalse();
+    }
+
+    // 보안 설정의 패턴 해석과 결과가 같은지 확인
+    private static boolean matchesAnyPattern(String path) {
+        return Arrays.stream(PublicPaths.patterns()).anyMatch(pattern -> ANT_PATH_MATCHER.match(pattern, path));
+    }
+}
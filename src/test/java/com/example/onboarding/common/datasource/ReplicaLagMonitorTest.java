@@ -0,0 +1,81 @@
+package com.example.onboarding.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaLagMonitorTest {
+
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private Replica replica;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        replica = new Replica("replica-1", dataSource);
+    }
+
+    @Test
+    @DisplayName("복제 지연을 기록하고 한도 안이면 사용")
+    void recordsLag() throws Exception {
+        // given
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(1L);
+
+        // when
+        monitor(false).probe(replica);
+
+        // then
+        assertThat(replica.getLagMillis()).isEqualTo(1_000);
+        assertThat(replica.isAvailable(2_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("SHOW REPLICA STATUS 결과가 비어 있으면 복제가 설정되지 않은 것으로 보고 제외")
+    void emptyStatusIsUnavailable() throws Exception {
+        // given
+        replica.recordProbe(0, 1_000_000);
+        when(resultSet.next()).thenReturn(false);
+
+        // when
+        monitor(false).probe(replica);
+
+        // then
+        assertThat(replica.isAvailable(Long.MAX_VALUE - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("allow-unreplicated-replica 이면 비어 있는 결과를 지연 0 으로 취급 (로컬 테스트용)")
+    void emptyStatusAllowedLocally() throws Exception {
+        // given
+        when(resultSet.next()).thenReturn(false);
+
+        // when
+        monitor(true).probe(replica);
+
+        // then
+        assertThat(replica.getLagMillis()).isZero();
+    }
+
+    private ReplicaLagMonitor monitor(boolean allowUnreplicated) {
+        return new ReplicaLagMonitor(List.of(replica), Duration.ofSeconds(1), allowUnreplicated, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.onboarding.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Replica replica1 = new Replica("replica-1", mock(DataSource.class));
+    private final Replica replica2 = new Replica("replica-2", mock(DataSource.class));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 쓸 수 있는 복제본을 번갈아 사용하고, 나머지는 primary")
+    void roundRobin() {
+        // given
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        replica1.recordProbe(0, 1_000_000);
+        replica2.recordProbe(0, 1_000_000);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        beginTransaction(true);
+        assertThat(List.of(dataSource.determineCurrentLookupKey(), dataSource.determineCurrentLookupKey()))
+                .containsExactlyInAnyOrder("replica-1", "replica-2");
+        assertThat(meterRegistry.get("datasource.routing.connections").tag("target", "replica-1").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연이 max-lag 를 넘었거나 확인 전인 복제본은 건너뛰고, 모두 쓸 수 없으면 primary")
+    void skipLaggingReplica() {
+        // given
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        replica1.recordProbe(5_000, 1_000_000);
+        beginTransaction(true);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        replica2.recordProbe(1_000, 1_000_000);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+        replica2.markUnavailable();
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("least-latency 는 확인 쿼리 왕복 시간이 가장 짧은 복제본을 고른다")
+    void leastLatency() {
+        // given
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.LEAST_LATENCY);
+        replica1.recordProbe(0, 5_000_000);
+        replica2.recordProbe(0, 1_000_000);
+        beginTransaction(true);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 primary 를 요청한 읽기 트랜잭션은 primary, 요청은 트랜잭션이 끝나면 지워짐")
+    void primaryRequested() {
+        // given
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        replica1.recordProbe(0, 1_000_000);
+        beginTransaction(false);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        tearDown();
+
+        // when
+        beginTransaction(true);
+        DataSourceRouting.usePrimary();
+
+        // then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        tearDown();
+        beginTransaction(true);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaRoutingDataSource.Selection selection) {
+        return new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replica1, replica2), selection,
+                Duration.ofSeconds(2), meterRegistry);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
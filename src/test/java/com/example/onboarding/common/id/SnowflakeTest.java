@@ -0,0 +1,114 @@
+package com.example.onboarding.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnowflakeTest {
+
+    private static final long NOW = Snowflake.EPOCH + 1_000_000L;
+
+    @Nested
+    @DisplayName("ID 구성 테스트")
+    class LayoutTest {
+
+        @Test
+        @DisplayName("ID 에서 발급 시각과 노드 ID 를 복원")
+        void decode() {
+            // given
+            Snowflake snowflake = new Snowflake(513, () -> NOW);
+
+            // when
+            long id = snowflake.nextId();
+
+            // then
+            assertThat(id).isPositive();
+            assertThat(Snowflake.timestampOf(id)).isEqualTo(NOW);
+            assertThat(Snowflake.nodeIdOf(id)).isEqualTo(513);
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 노드 ID 는 거부")
+        void invalidNodeId() {
+            assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_NODE_ID + 1, () -> NOW));
+        }
+
+        @Test
+        @DisplayName("노드 ID 가 설정되지 않으면 추측하지 않고 기동을 멈춘다")
+        void missingNodeId() {
+            assertThat(SnowflakeIdGenerator.resolveNodeId(" 7 ")).isEqualTo(7);
+            assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.resolveNodeId(null));
+            assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.resolveNodeId(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("단조 증가 테스트")
+    class MonotonicTest {
+
+        @Test
+        @DisplayName("같은 ms 에 순번을 모두 쓰면 다음 ms 를 미리 사용")
+        void sequenceOverflow() {
+            // given
+            Snowflake snowflake = new Snowflake(1, () -> NOW);
+            long previous = 0;
+
+            // when & then
+            for (int i = 0; i < 5_000; i++) {
+                long id = snowflake.nextId();
+                assertThat(id).isGreaterThan(previous);
+                previous = id;
+            }
+            assertThat(Snowflake.timestampOf(previous)).isEqualTo(NOW + 1);
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 감소하지 않음")
+        void clockRegression() {
+            // given
+            AtomicLong clock = new AtomicLong(NOW);
+            Snowflake snowflake = new Snowflake(1, clock::get);
+            long before = snowflake.nextId();
+
+            // when
+            clock.set(NOW - 10_000);
+            long after = snowflake.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+        void concurrentUniqueness() throws InterruptedException {
+            // given
+            Snowflake snowflake = new Snowflake(7, System::currentTimeMillis);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(snowflake.nextId());
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            // then
+            assertThat(ids).hasSize(80_000);
+        }
+    }
+}
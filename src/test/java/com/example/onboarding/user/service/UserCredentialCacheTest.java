@@ -0,0 +1,145 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.user.enums.UserRole;
+import com.example.onboarding.user.repository.UserCredentials;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCredentialCacheTest {
+
+    private static final UserCredentials USER =
+            new UserCredentials(1L, "user123", "$2a$10$hash", "nick", UserRole.ROLE_USER);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCredentialCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserCredentialCache(redisTemplate, connectionFactory, meterRegistry, true, 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 를 조회하지 않고, 대소문자가 달라도 같은 항목")
+    void hit() {
+        // when
+        cache.get("user123", this::load);
+        Optional<UserCredentials> cached = cache.get("USER123", this::load);
+
+        // then
+        assertThat(cached).contains(USER);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("user.credential.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("user.credential.cache.age").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않음")
+    void missingNotCached() {
+        // when
+        cache.get("nobody", Optional::empty);
+
+        // then
+        assertThat(cache.getCache().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 후에 다른 노드로 발행")
+    void invalidateAfterCommit() {
+        // given
+        cache.get("user123", this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.invalidate("user123");
+
+        // then
+        assertThat(cache.getCache().size()).isZero();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(UserCredentialCache.INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith(":user123");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 제거하고 전달 지연을 기록, 자신이 발행한 메시지는 무시")
+    void onMessage() {
+        // given
+        cache.get("user123", this::load);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate("other");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        ArgumentCaptor<String> own = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(UserCredentialCache.INVALIDATION_CHANNEL), own.capture());
+
+        // when & then
+        cache.onMessage(message(own.getValue().replace(":other", ":user123")), null);
+        assertThat(cache.getCache().size()).isEqualTo(1);
+
+        cache.onMessage(message("other-node:" + (System.currentTimeMillis() - 3) + ":user123"), null);
+        assertThat(cache.getCache().size()).isZero();
+        assertThat(meterRegistry.get("user.credential.cache.invalidation.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 있었으면 그 결과는 캐시하지 않음")
+    void invalidatedWhileLoading() {
+        // when
+        cache.get("user123", () -> {
+            cache.onMessage(message("other-node:" + System.currentTimeMillis() + ":user123"), null);
+            return load();
+        });
+
+        // then
+        assertThat(cache.getCache().size()).isZero();
+    }
+
+    private Optional<UserCredentials> load() {
+        loads.incrementAndGet();
+        return Optional.of(USER);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(UserCredentialCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
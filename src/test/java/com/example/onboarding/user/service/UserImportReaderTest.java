@@ -0,0 +1,96 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.common.exception.InvalidRequestException;
+import com.example.onboarding.user.enums.UserImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("CSV 읽기 테스트")
+    class CsvTest {
+
+        @Test
+        @DisplayName("헤더의 컬럼 순서대로 레코드를 읽고 빈 줄은 건너뜀")
+        void readRecords() throws IOException {
+            // given
+            UserImportReader reader = open(UserImportFormat.CSV, """
+                    nickname,username,password
+                    홍길동,user1,Password1!
+
+                    "김,철수",user2,"Pass""word2!"
+                    """);
+
+            // when
+            UserImportReader.Record first = reader.next();
+            UserImportReader.Record second = reader.next();
+
+            // then
+            assertThat(first.line()).isEqualTo(2);
+            assertThat(first.request().getUsername()).isEqualTo("user1");
+            assertThat(first.request().getNickname()).isEqualTo("홍길동");
+            assertThat(second.line()).isEqualTo(4);
+            assertThat(second.request().getNickname()).isEqualTo("김,철수");
+            assertThat(second.request().getPassword()).isEqualTo("Pass\"word2!");
+            assertThat(reader.next()).isNull();
+        }
+
+        @Test
+        @DisplayName("컬럼이 모자란 줄은 형식 오류")
+        void missingColumn() throws IOException {
+            // given
+            UserImportReader reader = open(UserImportFormat.CSV, "username,password,nickname\nuser1,Password1!\n");
+
+            // when
+            UserImportReader.Record record = reader.next();
+
+            // then
+            assertThat(record.request()).isNull();
+            assertThat(record.error()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("필수 컬럼이 없는 헤더는 거부")
+        void invalidHeader() {
+            assertThrows(InvalidRequestException.class,
+                    () -> open(UserImportFormat.CSV, "username,nickname\nuser1,홍길동\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON 읽기 테스트")
+    class NdjsonTest {
+
+        @Test
+        @DisplayName("JSON 이 아닌 줄은 형식 오류로 표시하고 다음 줄을 계속 읽음")
+        void malformedLine() throws IOException {
+            // given
+            UserImportReader reader = open(UserImportFormat.NDJSON, "{not json\n{also not json\n");
+
+            // when
+            UserImportReader.Record first = reader.next();
+            UserImportReader.Record second = reader.next();
+
+            // then
+            assertThat(first.request()).isNull();
+            assertThat(second.line()).isEqualTo(2);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private UserImportReader open(UserImportFormat format, String body) throws IOException {
+        return UserImportReader.open(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+    }
+}
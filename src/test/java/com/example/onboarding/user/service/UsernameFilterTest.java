@@ -0,0 +1,84 @@
+package com.example.onboarding.user.service;
+
+import com.example.onboarding.user.repository.UserRepository;
+import com.example.onboarding.user.repository.UsernameRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UsernameFilterTest {
+
+    private UserRepository userRepository;
+    private UsernameFilter usernameFilter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        usernameFilter = new UsernameFilter(userRepository, new SimpleMeterRegistry(), 1_000, 0.01, 2);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 항상 DB 확인이 필요하다고 응답")
+    void mightExistBeforeLoad() {
+        assertThat(usernameFilter.mightExist("anyone")).isTrue();
+    }
+
+    @Test
+    @DisplayName("id 순서로 나눠 읽어 모든 username 을 적재")
+    void loadInChunks() {
+        // given
+        when(userRepository.findUsernamesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new UsernameRow(1L, "alice"), new UsernameRow(2L, "bob")));
+        when(userRepository.findUsernamesAfter(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(new UsernameRow(5L, "carol")));
+
+        // when
+        usernameFilter.init();
+
+        // then
+        verify(userRepository).findUsernamesAfter(eq(2L), any(Pageable.class));
+        assertThat(usernameFilter.isLoaded()).isTrue();
+        assertThat(usernameFilter.mightExist("alice")).isTrue();
+        assertThat(usernameFilter.mightExist("carol")).isTrue();
+        assertThat(usernameFilter.mightExist("dave")).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 후 가입된 username 추가")
+    void addAfterLoad() {
+        // given
+        when(userRepository.findUsernamesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        usernameFilter.init();
+
+        // when
+        usernameFilter.add("dave");
+
+        // then
+        assertThat(usernameFilter.mightExist("dave")).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 실패 시 DB 확인으로 대체")
+    void loadFailure() {
+        // given
+        when(userRepository.findUsernamesAfter(eq(0L), any(Pageable.class))).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        usernameFilter.init();
+
+        // then
+        assertThat(usernameFilter.isLoaded()).isFalse();
+        assertThat(usernameFilter.mightExist("dave")).isTrue();
+    }
+}